@@ -0,0 +1,79 @@
+package com.calendar.app.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges synthetic busy intervals spread over one month, as produced by a free/busy lookup.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BusyIntervalMergerBenchmark {
+
+    private static final long MINUTE = 60_000L;
+    private static final long WINDOW = 31L * 24 * 60 * MINUTE;
+
+    @Param({"10000"})
+    private int events;
+
+    @Param({"1", "100"})
+    private int users;
+
+    private long[] sourceStarts;
+    private long[] sourceEnds;
+    private long[] starts;
+    private long[] ends;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        var random = new SplittableRandom(42);
+        sourceStarts = new long[events];
+        sourceEnds = new long[events];
+        for (int i = 0; i < events; i++) {
+            long start = random.nextLong(WINDOW / (15 * MINUTE)) * 15 * MINUTE;
+            sourceStarts[i] = start;
+            sourceEnds[i] = start + (1 + random.nextInt(16)) * 15 * MINUTE;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        starts = Arrays.copyOf(sourceStarts, events);
+        ends = Arrays.copyOf(sourceEnds, events);
+    }
+
+    @Benchmark
+    public long[] mergeArrays() {
+        return BusyIntervalMerger.merge(starts, ends, events, 0, WINDOW);
+    }
+
+    @Benchmark
+    public int accumulatePerUserAndMerge() {
+        var mergers = new BusyIntervalMerger[users];
+        for (int i = 0; i < users; i++) {
+            mergers[i] = new BusyIntervalMerger();
+        }
+        for (int i = 0; i < events; i++) {
+            mergers[i % users].add(starts[i], ends[i]);
+        }
+
+        int blocks = 0;
+        for (var merger : mergers) {
+            blocks += merger.merge(0, WINDOW).length;
+        }
+        return blocks;
+    }
+}
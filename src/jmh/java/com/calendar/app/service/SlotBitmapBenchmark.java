@@ -0,0 +1,62 @@
+package com.calendar.app.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds per-attendee slot bitmaps for a two-week window and intersects them, as done when suggesting
+ * meeting times. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlotBitmapBenchmark {
+
+    private static final int SLOTS = 14 * 24 * 4;
+    private static final int EVENTS_PER_ATTENDEE = 40;
+
+    @Param({"200"})
+    private int attendees;
+
+    @Param({"4"})
+    private int length;
+
+    private int[][] busyStarts;
+    private int[][] busyEnds;
+
+    @Setup
+    public void generate() {
+        var random = new SplittableRandom(42);
+        busyStarts = new int[attendees][EVENTS_PER_ATTENDEE];
+        busyEnds = new int[attendees][EVENTS_PER_ATTENDEE];
+        for (int a = 0; a < attendees; a++) {
+            for (int e = 0; e < EVENTS_PER_ATTENDEE; e++) {
+                int start = random.nextInt(SLOTS);
+                busyStarts[a][e] = start;
+                busyEnds[a][e] = start + 1 + random.nextInt(8);
+            }
+        }
+    }
+
+    @Benchmark
+    public int intersectAttendees() {
+        var common = SlotBitmap.allSet(SLOTS);
+        for (int a = 0; a < attendees; a++) {
+            var free = SlotBitmap.allSet(SLOTS);
+            for (int e = 0; e < EVENTS_PER_ATTENDEE; e++) {
+                free.clear(busyStarts[a][e], busyEnds[a][e]);
+            }
+            common.and(free);
+        }
+        return common.runStarts(length).nextSetBit(0);
+    }
+}
@@ -0,0 +1,14 @@
+package com.calendar.app.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkResponseCommand(
+    @NotEmpty(message = "At least one response is required")
+    @Size(max = 500, message = "Cannot respond to more than 500 events at once")
+    List<@Valid @NotNull EventResponseCommand> responses
+) {}
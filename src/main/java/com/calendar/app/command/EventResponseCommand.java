@@ -0,0 +1,12 @@
+package com.calendar.app.command;
+
+import com.calendar.domain.ResponseStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record EventResponseCommand(
+    @NotNull(message = "Event ID is required")
+    Long eventId,
+
+    @NotNull(message = "Status is required")
+    ResponseStatus status
+) {}
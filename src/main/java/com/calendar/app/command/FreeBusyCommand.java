@@ -0,0 +1,21 @@
+package com.calendar.app.command;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.List;
+
+public record FreeBusyCommand(
+    @NotEmpty(message = "At least one user is required")
+    @Size(max = 500, message = "Cannot query more than 500 users at once")
+    List<@NotBlank String> userIds,
+
+    @NotNull(message = "Start time is required")
+    Instant from,
+
+    @NotNull(message = "End time is required")
+    Instant to
+) {}
@@ -0,0 +1,32 @@
+package com.calendar.app.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.List;
+
+public record MeetingSuggestionCommand(
+    @NotEmpty(message = "At least one attendee is required")
+    @Size(max = 500, message = "Cannot schedule more than 500 attendees at once")
+    List<@Valid @NotNull AttendeeCommand> attendees,
+
+    @NotNull(message = "Start time is required")
+    Instant from,
+
+    @NotNull(message = "End time is required")
+    Instant to,
+
+    @NotNull(message = "Duration is required")
+    @Min(value = 15, message = "Duration must be at least 15 minutes")
+    @Max(value = 1440, message = "Duration cannot be longer than 24 hours")
+    Integer durationMinutes,
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 20, message = "Limit cannot be greater than 20")
+    Integer limit
+) {}
@@ -0,0 +1,17 @@
+package com.calendar.app.command;
+
+import com.calendar.domain.TimeSlot;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SlotCheckCommand(
+    @NotNull(message = "Calendar ID is required")
+    Long calendarId,
+
+    @NotEmpty(message = "At least one slot is required")
+    @Size(max = 100, message = "Cannot check more than 100 slots at once")
+    List<@NotNull TimeSlot> slots
+) {}
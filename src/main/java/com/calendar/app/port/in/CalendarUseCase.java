@@ -9,6 +9,7 @@ public interface CalendarUseCase {
     Calendar createCalendar(CalendarRequest request, String ownerId);
     Calendar getCalendar(Long calendarId, String requesterId);
     List<Calendar> getUserCalendars(String ownerId);
+    String getUserCalendarsVersion(String ownerId);
     Calendar updateCalendar(Long calendarId, CalendarRequest request, String ownerId);
     void deleteCalendar(Long calendarId, String ownerId);
 }
\ No newline at end of file
@@ -1,20 +1,37 @@
 package com.calendar.app.port.in;
 
 import com.calendar.app.command.AttendeeCommand;
+import com.calendar.app.command.BulkResponseCommand;
 import com.calendar.app.command.EventCommand;
+import com.calendar.app.command.SlotCheckCommand;
 import com.calendar.domain.Event;
+import com.calendar.domain.EventChanges;
+import com.calendar.domain.EventExport;
+import com.calendar.domain.EventResponseOutcome;
 import com.calendar.domain.ResponseStatus;
+import com.calendar.domain.SlotConflict;
+import com.calendar.infra.provided.search.model.CursorPage;
 import com.calendar.infra.provided.search.model.SearchFilter;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EventUseCase {
     Event createEvent(EventCommand command, @AuthenticationPrincipal Jwt jwt);
     void addAttendees(Long eventId, List<AttendeeCommand> attendees, @AuthenticationPrincipal Jwt jwt);
     void removeAttendee(Long eventId, String attendeeId, @AuthenticationPrincipal Jwt jwt);
     void respondToEvent(Long eventId, ResponseStatus status, @AuthenticationPrincipal Jwt jwt);
+    List<EventResponseOutcome> respondToEvents(BulkResponseCommand command, @AuthenticationPrincipal Jwt jwt);
     Event getEventDetails(Long eventId, @AuthenticationPrincipal Jwt jwt);
+    String getEventVersion(Long eventId, @AuthenticationPrincipal Jwt jwt);
+    List<SlotConflict> checkSlots(SlotCheckCommand command, @AuthenticationPrincipal Jwt jwt);
 
     List<Event> getEvents(SearchFilter filter, Jwt jwt);
+    EventChanges syncEvents(Long calendarId, String syncToken, Jwt jwt);
+    List<Event> getAgenda(Instant from, Instant to, int limit, Jwt jwt);
+    CursorPage<Event> scrollEvents(SearchFilter filter, Jwt jwt);
+    EventExport prepareExport(SearchFilter filter, Jwt jwt);
+    void exportEvents(EventExport export, Consumer<Event> consumer);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.calendar.app.port.in;
+
+import com.calendar.app.command.FreeBusyCommand;
+import com.calendar.app.command.MeetingSuggestionCommand;
+import com.calendar.domain.FreeBusy;
+import com.calendar.domain.MeetingSuggestion;
+
+import java.util.List;
+
+public interface FreeBusyUseCase {
+    List<FreeBusy> getFreeBusy(FreeBusyCommand command, String requesterId);
+    List<MeetingSuggestion> suggestMeetingTimes(MeetingSuggestionCommand command, String organizerId);
+}
@@ -1,7 +1,12 @@
 package com.calendar.app.port.in;
 
+import com.calendar.domain.Notification;
 import com.calendar.domain.ReminderMethod;
 
+import java.util.List;
+import java.util.Map;
+
 public interface INotificationSendExecutor {
     void sendNotification(ReminderMethod method, String userId, String message);
-}
\ No newline at end of file
+    Map<Integer, Exception> sendBatch(ReminderMethod method, List<Notification> notifications);
+}
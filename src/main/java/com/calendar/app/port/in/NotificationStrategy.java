@@ -1,8 +1,31 @@
 package com.calendar.app.port.in;
 
+import com.calendar.domain.Notification;
 import com.calendar.domain.ReminderMethod;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface NotificationStrategy {
     void execute(String message, String recipient);
     ReminderMethod getReminderMethod();
+
+    /**
+     * Sends several notifications in one go. Returns the failures keyed by position in
+     * {@code notifications}; positions missing from the map were delivered. Strategies that can share
+     * a connection between messages should override this; the default sends them one by one.
+     */
+    default Map<Integer, Exception> executeBatch(List<Notification> notifications) {
+        Map<Integer, Exception> failures = new HashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            try {
+                execute(notification.message(), notification.recipient());
+            } catch (RuntimeException e) {
+                failures.put(i, e);
+            }
+        }
+        return failures;
+    }
 }
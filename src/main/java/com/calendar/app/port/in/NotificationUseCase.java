@@ -2,6 +2,7 @@ package com.calendar.app.port.in;
 
 import com.calendar.app.command.AttendeeCommand;
 import com.calendar.domain.Event;
+import com.calendar.domain.Reminder;
 import com.calendar.domain.ResponseStatus;
 
 import java.util.List;
@@ -10,6 +11,8 @@ public interface NotificationUseCase {
 
     void scheduleDefaultReminders(Event event);
 
+    void sendReminders(List<Reminder> reminders);
+
     void notifyAboutNewAttendees(Long eventId, List<AttendeeCommand> attendees);
 
     void notifyAboutRemovedAttendee(Long eventId, String attendeeId);
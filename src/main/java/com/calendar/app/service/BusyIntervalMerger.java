@@ -0,0 +1,83 @@
+package com.calendar.app.service;
+
+import java.util.Arrays;
+
+/**
+ * Accumulates busy intervals as epoch millis and merges them into disjoint blocks.
+ * <p>
+ * Starts and ends are kept in two primitive arrays and sorted independently: the union of a set of
+ * intervals only depends on how many of them are open at each instant, so start/end pairing is not
+ * needed. Touching intervals are merged into one block.
+ */
+public final class BusyIntervalMerger {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long[] EMPTY = new long[0];
+
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private long[] ends = new long[INITIAL_CAPACITY];
+    private int size;
+
+    public void add(long start, long end) {
+        if (end <= start) {
+            return;
+        }
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    /**
+     * Merged blocks flattened as {@code [start0, end0, start1, end1, ...]}, clipped to [from, to).
+     * Sorts the accumulated arrays in place.
+     */
+    public long[] merge(long from, long to) {
+        return merge(starts, ends, size, from, to);
+    }
+
+    public static long[] merge(long[] starts, long[] ends, int size, long from, long to) {
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        Arrays.sort(starts, 0, size);
+        Arrays.sort(ends, 0, size);
+
+        long[] blocks = new long[size * 2];
+        int count = 0;
+        int open = 0;
+        int endIndex = 0;
+        long blockStart = 0;
+        for (int startIndex = 0; startIndex < size; ) {
+            if (starts[startIndex] <= ends[endIndex]) {
+                if (open++ == 0) {
+                    blockStart = starts[startIndex];
+                }
+                startIndex++;
+            } else {
+                if (--open == 0) {
+                    count = append(blocks, count, blockStart, ends[endIndex], from, to);
+                }
+                endIndex++;
+            }
+        }
+        count = append(blocks, count, blockStart, ends[size - 1], from, to);
+
+        return count == blocks.length ? blocks : Arrays.copyOf(blocks, count);
+    }
+
+    private static int append(long[] blocks, int count, long start, long end, long from, long to) {
+        long clippedStart = Math.max(start, from);
+        long clippedEnd = Math.min(end, to);
+        if (clippedStart >= clippedEnd) {
+            return count;
+        }
+        blocks[count] = clippedStart;
+        blocks[count + 1] = clippedEnd;
+        return count + 2;
+    }
+}
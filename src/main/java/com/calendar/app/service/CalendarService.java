@@ -2,9 +2,11 @@ package com.calendar.app.service;
 
 import com.calendar.app.port.in.CalendarUseCase;
 import com.calendar.domain.Calendar;
+import com.calendar.domain.ChangeType;
 import com.calendar.domain.exception.NotFoundException;
 import com.calendar.domain.exception.UnauthorizedAccessException;
 import com.calendar.infra.persistence.repository.CalendarRepository;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository;
 import com.calendar.infra.web.rest.dto.CalendarRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +19,7 @@ import java.util.List;
 public class CalendarService implements CalendarUseCase {
 
     private final CalendarRepository calendarRepository;
+    private final ChangeOutboxRepository changeOutbox;
 
     @Override
     @Transactional
@@ -26,19 +29,17 @@ public class CalendarService implements CalendarUseCase {
                 .description(request.getDescription())
                 .ownerId(ownerId)
                 .build();
-        return calendarRepository.save(newCalendar);
+        Calendar saved = calendarRepository.save(newCalendar);
+        changeOutbox.appendForUsers(List.of(ownerId), saved.getId(), null, ChangeType.CALENDAR_CREATED);
+        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Calendar getCalendar(Long calendarId, String requesterId) {
         Calendar calendar = calendarRepository.findById(calendarId)
-                .orElseThrow(() -> new NotFoundException("Calendar with id " + calendarId + " not found"));
-        
-        if (!calendar.isOwnedBy(requesterId)) {
-            throw new UnauthorizedAccessException("User " + requesterId + " cannot access calendar " + calendarId);
-        }
-        
+                .orElseThrow(() -> calendarNotFound(calendarId));
+        validateOwnership(calendar, requesterId);
         return calendar;
     }
 
@@ -48,20 +49,43 @@ public class CalendarService implements CalendarUseCase {
         return calendarRepository.findAllByOwnerId(ownerId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getUserCalendarsVersion(String ownerId) {
+        return calendarRepository.findListVersionByOwnerId(ownerId).tag();
+    }
+
     @Override
     @Transactional
     public Calendar updateCalendar(Long calendarId, CalendarRequest request, String ownerId) {
-        var calendar = getCalendar(calendarId, ownerId);
+        // read past the cache, whose copy may carry a stale version
+        var calendar = calendarRepository.findByIdForWrite(calendarId)
+                .orElseThrow(() -> calendarNotFound(calendarId));
+        validateOwnership(calendar, ownerId);
         calendar.updateBasicInfo(
                 request.getName(),
                 request.getDescription());
-        return calendarRepository.save(calendar);
+        Calendar saved = calendarRepository.save(calendar);
+        changeOutbox.appendForUsers(List.of(ownerId), calendarId, null, ChangeType.CALENDAR_UPDATED);
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteCalendar(Long calendarId, String ownerId) {
         Calendar calendar = getCalendar(calendarId, ownerId);
+        changeOutbox.appendForCalendarEvents(calendarId, ownerId, ChangeType.EVENT_REMOVED);
         calendarRepository.deleteById(calendar.getId());
+        changeOutbox.appendForUsers(List.of(ownerId), calendarId, null, ChangeType.CALENDAR_DELETED);
+    }
+
+    private static void validateOwnership(Calendar calendar, String requesterId) {
+        if (!calendar.isOwnedBy(requesterId)) {
+            throw new UnauthorizedAccessException("User " + requesterId + " cannot access calendar " + calendar.getId());
+        }
+    }
+
+    private static NotFoundException calendarNotFound(Long calendarId) {
+        return new NotFoundException("Calendar with id " + calendarId + " not found");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.calendar.app.service;
+
+import com.calendar.infra.persistence.repository.EventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * Purges event tombstones and attendee change records once they are older than {@code retention}.
+ * Sync tokens issued before the purged changes are rejected afterwards, so clients that stay away
+ * longer than the retention fall back to a full resync.
+ */
+@Slf4j
+@Component
+public class ChangeLogPurger {
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+    private final Duration retention;
+
+    public ChangeLogPurger(
+            EventRepository eventRepository,
+            @Value("${calendar.sync.change-log.purge-enabled:true}") boolean enabled,
+            @Value("${calendar.sync.change-log.retention:30d}") Duration retention) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.sync.change-log.purge-interval-ms:3600000}")
+    @Transactional
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        long purged = eventRepository.purgeChangeLog(retention);
+        if (purged > 0) {
+            log.debug("Purged {} change log rows older than {}", purged, retention);
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package com.calendar.app.service;
 
 import com.calendar.app.port.in.NotificationStrategy;
+import com.calendar.domain.Notification;
 import com.calendar.domain.ReminderMethod;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 import jakarta.mail.MessagingException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service("EMAIL")
 @RequiredArgsConstructor
 public class EmailNotificationService implements NotificationStrategy {
@@ -16,15 +28,54 @@ public class EmailNotificationService implements NotificationStrategy {
 
     @Override
     public void execute(String message, String recipient) {
+        mailSender.send(prepare(message, recipient));
+    }
+
+    /**
+     * Hands all messages to a single {@link JavaMailSender#send(MimeMessage...)} call, which delivers
+     * them over one SMTP connection instead of connecting once per recipient.
+     */
+    @Override
+    public Map<Integer, Exception> executeBatch(List<Notification> notifications) {
+        Map<Integer, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Integer> positions = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            try {
+                MimeMessage mimeMessage = prepare(notification.message(), notification.recipient());
+                positions.put(mimeMessage, i);
+                messages.add(mimeMessage);
+            } catch (MailException e) {
+                failures.put(i, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // only the listed messages failed; an empty list means all were sent but closing the connection failed
+            e.getFailedMessages().forEach((message, cause) -> failures.put(positions.get(message), cause));
+        } catch (MailException e) {
+            positions.values().forEach(position -> failures.put(position, e));
+        }
+        return failures;
+    }
+
+    private MimeMessage prepare(String message, String recipient) {
         try {
             var mimeMessage = mailSender.createMimeMessage();
             var helper = new MimeMessageHelper(mimeMessage, true);
             helper.setTo(recipient);
             helper.setSubject("Wiadomość o wydarzeniu");
-            helper.setText(message, true);
-            mailSender.send(mimeMessage);
+            helper.setText(HtmlUtils.htmlEscape(message).replace("\n", "<br>"), true);
+            return mimeMessage;
         } catch (MessagingException e) {
-            e.printStackTrace();
+            // rethrown so the dispatcher retries the job instead of dropping it
+            throw new MailPreparationException("Could not prepare notification email", e);
         }
     }
 
@@ -32,4 +83,4 @@ public class EmailNotificationService implements NotificationStrategy {
     public ReminderMethod getReminderMethod() {
         return ReminderMethod.EMAIL;
     }
-}
\ No newline at end of file
+}
@@ -1,39 +1,70 @@
 package com.calendar.app.service;
 
 import com.calendar.app.command.AttendeeCommand;
+import com.calendar.app.command.BulkResponseCommand;
 import com.calendar.app.command.EventCommand;
+import com.calendar.app.command.EventResponseCommand;
+import com.calendar.app.command.SlotCheckCommand;
 import com.calendar.app.port.in.EventUseCase;
 import com.calendar.app.port.in.NotificationUseCase;
 import com.calendar.domain.Attendee;
+import com.calendar.domain.BusyInterval;
+import com.calendar.domain.ChangeType;
 import com.calendar.domain.Event;
+import com.calendar.domain.EventChanges;
+import com.calendar.domain.EventExport;
+import com.calendar.domain.EventVersion;
+import com.calendar.domain.EventResponseOutcome;
 import com.calendar.domain.EventStatus;
 import com.calendar.domain.ResponseStatus;
+import com.calendar.domain.SlotConflict;
+import com.calendar.domain.SyncToken;
+import com.calendar.domain.TimeSlot;
 import com.calendar.domain.exception.*;
 import com.calendar.infra.persistence.repository.AttendeeRepository;
 import com.calendar.infra.persistence.repository.CalendarRepository;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository;
 import com.calendar.infra.persistence.repository.EventRepository;
+import com.calendar.infra.provided.search.model.CursorPage;
 import com.calendar.infra.provided.search.model.SearchFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService implements EventUseCase {
 
+    private static final Duration CONFLICT_BUFFER = Duration.ofHours(1);
+    private static final Duration MAX_SLOT_WINDOW = Duration.ofDays(31);
+    // validateEventTime accepts anything shorter than 8 whole days
+    private static final Duration MAX_EVENT_DURATION = Duration.ofDays(8);
+    private static final Duration MAX_AGENDA_WINDOW = Duration.ofDays(366);
+    private static final int MAX_AGENDA_SIZE = 500;
+
     private final EventRepository eventRepository;
     private final AttendeeRepository attendeeRepository;
     private final CalendarRepository calendarRepository;
     private final NotificationUseCase notificationService;
+    private final ChangeOutboxRepository changeOutbox;
 
     @Override
     @Transactional
@@ -41,7 +72,9 @@ public class EventService implements EventUseCase {
         String organizerId = jwt.getSubject();
         validateCalendarOwnership(command.calendarId(), organizerId);
         validateEventTime(command.startTime(), command.endTime());
-        checkForConflicts(command.calendarId(), command.startTime(), command.endTime());
+        if (!eventRepository.enforcesNoOverlap()) {
+            checkForConflicts(command.calendarId(), command.startTime(), command.endTime());
+        }
 
         Event event = Event.builder()
                 .calendarId(command.calendarId())
@@ -59,37 +92,49 @@ public class EventService implements EventUseCase {
         if (command.attendees() != null && !command.attendees().isEmpty()) {
             addAttendeesInternal(savedEvent.getId(), command.attendees(), jwt);
         }
+        changeOutbox.appendForEvents(List.of(savedEvent.getId()), ChangeType.EVENT_CREATED);
 
         notificationService.scheduleDefaultReminders(savedEvent);
         return savedEvent;
     }
 
-    private void addAttendeesInternal(Long eventId, List<AttendeeCommand> attendees, Jwt jwt) {
-        attendees.forEach(attendeeCmd -> {
-            String email = attendeeCmd.email();
-            String userId = getUserIdFromEmail(email);
-
-            Map<String, Object> claims = jwt.getClaims();
-            String displayName = (String) claims.getOrDefault("name", email);
-
-            Attendee attendee = Attendee.builder()
-                    .eventId(eventId)
-                    .userId(userId)
-                    .email(email)
-                    .displayName(displayName)
-                    .responseStatus(ResponseStatus.PENDING)
-                    .optional(attendeeCmd.optional())
-                    .build();
-
-            attendeeRepository.save(attendee);
-        });
+    private List<Attendee> addAttendeesInternal(Long eventId, List<AttendeeCommand> attendees, Jwt jwt) {
+        Map<String, Object> claims = jwt.getClaims();
+
+        List<Attendee> newAttendees = attendees.stream()
+                .map(attendeeCmd -> {
+                    String email = attendeeCmd.email();
+                    String displayName = (String) claims.getOrDefault("name", email);
+
+                    return Attendee.builder()
+                            .eventId(eventId)
+                            .userId(getUserIdFromEmail(email))
+                            .email(email)
+                            .displayName(displayName)
+                            .responseStatus(ResponseStatus.PENDING)
+                            .optional(attendeeCmd.optional())
+                            .build();
+                })
+                .toList();
+
+        return attendeeRepository.insertMissing(newAttendees);
     }
 
     @Override
     @Transactional
     public void addAttendees(Long eventId, List<AttendeeCommand> attendees, @AuthenticationPrincipal Jwt jwt) {
-        addAttendeesInternal(eventId, attendees, jwt);
-        notificationService.notifyAboutNewAttendees(eventId, attendees);
+        Set<String> added = addAttendeesInternal(eventId, attendees, jwt).stream()
+                .map(Attendee::getEmail)
+                .collect(Collectors.toSet());
+        if (added.isEmpty()) {
+            return;
+        }
+        changeOutbox.appendForEvents(List.of(eventId), ChangeType.EVENT_UPDATED);
+
+        List<AttendeeCommand> newAttendees = attendees.stream()
+                .filter(attendeeCmd -> added.remove(attendeeCmd.email()))
+                .toList();
+        notificationService.notifyAboutNewAttendees(eventId, newAttendees);
     }
 
     @Override
@@ -102,9 +147,13 @@ public class EventService implements EventUseCase {
             validateOrganizer(event, requesterId);
         }
 
-        attendeeRepository.deleteByEventIdAndUserId(eventId, attendeeId);
+        if (!attendeeRepository.deleteByEventIdAndUserId(eventId, attendeeId)) {
+            return;
+        }
+        changeOutbox.appendForEvents(List.of(eventId), ChangeType.EVENT_UPDATED);
 
         if (!event.getOrganizerId().equals(attendeeId)) {
+            changeOutbox.appendForUsers(List.of(attendeeId), event.getCalendarId(), eventId, ChangeType.EVENT_REMOVED);
             notificationService.notifyAboutRemovedAttendee(eventId, attendeeId);
         }
     }
@@ -123,6 +172,61 @@ public class EventService implements EventUseCase {
         }
 
         attendeeRepository.save(attendee);
+        changeOutbox.appendForEvents(List.of(eventId), ChangeType.EVENT_UPDATED);
+        notifyOrganizers(List.of(eventId), userId, id -> status);
+    }
+
+    /**
+     * Applies many responses of the requester with one set-based update per status. PENDING cannot be
+     * set explicitly and is rejected per item, as are events the requester does not attend.
+     */
+    @Override
+    @Transactional
+    public List<EventResponseOutcome> respondToEvents(BulkResponseCommand command, Jwt jwt) {
+        String userId = jwt.getSubject();
+        Map<ResponseStatus, List<Long>> eventIdsByStatus = new EnumMap<>(ResponseStatus.class);
+        Set<Long> seen = new HashSet<>();
+        for (EventResponseCommand response : command.responses()) {
+            if (!seen.add(response.eventId())) {
+                throw new IllegalArgumentException("Duplicate response for event " + response.eventId());
+            }
+            if (response.status() != ResponseStatus.PENDING) {
+                eventIdsByStatus.computeIfAbsent(response.status(), status -> new ArrayList<>()).add(response.eventId());
+            }
+        }
+
+        Set<Long> updated = new HashSet<>();
+        eventIdsByStatus.forEach((status, eventIds) ->
+                updated.addAll(attendeeRepository.updateResponseStatus(userId, status, eventIds)));
+        changeOutbox.appendForEvents(updated, ChangeType.EVENT_UPDATED);
+        Map<Long, ResponseStatus> statusByEventId = command.responses().stream()
+                .collect(Collectors.toMap(EventResponseCommand::eventId, EventResponseCommand::status));
+        notifyOrganizers(updated, userId, statusByEventId::get);
+
+        return command.responses().stream()
+                .map(response -> new EventResponseOutcome(response.eventId(), response.status(), outcomeOf(response, updated)))
+                .toList();
+    }
+
+    /**
+     * Tells the organizers about the user's new responses; an organizer answering their own event is
+     * not notified.
+     */
+    private void notifyOrganizers(Collection<Long> eventIds, String userId, Function<Long, ResponseStatus> statusOf) {
+        eventRepository.findOrganizers(eventIds).forEach((eventId, organizerId) -> {
+            if (!organizerId.equals(userId)) {
+                notificationService.notifyAboutResponse(organizerId, eventId, userId, statusOf.apply(eventId));
+            }
+        });
+    }
+
+    private static EventResponseOutcome.Result outcomeOf(EventResponseCommand response, Set<Long> updated) {
+        if (response.status() == ResponseStatus.PENDING) {
+            return EventResponseOutcome.Result.REJECTED;
+        }
+        return updated.contains(response.eventId())
+                ? EventResponseOutcome.Result.UPDATED
+                : EventResponseOutcome.Result.NOT_ATTENDEE;
     }
 
     @Override
@@ -139,11 +243,128 @@ public class EventService implements EventUseCase {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public String getEventVersion(Long eventId, Jwt jwt) {
+        String userId = jwt.getSubject();
+        EventVersion version = eventRepository.findVersion(eventId, userId)
+                .orElseThrow(() -> new NotFoundException("Event not found with id: " + eventId));
+
+        if (!version.isVisibleTo(userId)) {
+            throw new AccessDeniedException("User " + userId + " has no access to this event.");
+        }
+
+        return version.tag();
+    }
+
+    /**
+     * Runs in REPEATABLE READ so the changes and the returned token come from one snapshot.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public EventChanges syncEvents(Long calendarId, String syncToken, Jwt jwt) {
+        SyncToken since = SyncToken.decode(syncToken);
+        validateCalendarOwnership(calendarId, jwt.getSubject());
+        return eventRepository.findChangesSince(calendarId, since);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Event> getEvents(SearchFilter filter, Jwt jwt) {
-        return eventRepository.findAll(filter)
-                .stream()
-                .filter(event -> event.isVisibleTo(jwt.getSubject()))
-                .collect(Collectors.toList());
+        return eventRepository.findAllVisibleTo(filter, jwt.getSubject());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> getAgenda(Instant from, Instant to, int limit, Jwt jwt) {
+        if (!to.isAfter(from)) {
+            throw new InvalidEventTimeException("End time must be after start time");
+        }
+        if (Duration.between(from, to).compareTo(MAX_AGENDA_WINDOW) > 0) {
+            throw new InvalidEventTimeException("Agenda window cannot be longer than " + MAX_AGENDA_WINDOW.toDays() + " days");
+        }
+        if (limit < 1 || limit > MAX_AGENDA_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_AGENDA_SIZE);
+        }
+
+        return eventRepository.findAgenda(jwt.getSubject(), from, to, MAX_EVENT_DURATION, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Event> scrollEvents(SearchFilter filter, Jwt jwt) {
+        return eventRepository.findPageVisibleTo(filter, jwt.getSubject());
+    }
+
+    @Override
+    public EventExport prepareExport(SearchFilter filter, Jwt jwt) {
+        return eventRepository.prepareExport(filter, jwt.getSubject());
+    }
+
+    /**
+     * Runs a prepared export in a read-only transaction, which holds the cursor open while streaming.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEvents(EventExport export, Consumer<Event> consumer) {
+        export.writeTo(consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SlotConflict> checkSlots(SlotCheckCommand command, Jwt jwt) {
+        validateCalendarOwnership(command.calendarId(), jwt.getSubject());
+        command.slots().forEach(slot -> validateSlot(slot.startTime(), slot.endTime()));
+
+        Instant windowStart = command.slots().stream().map(TimeSlot::startTime).min(Instant::compareTo).orElseThrow();
+        Instant windowEnd = command.slots().stream().map(TimeSlot::endTime).max(Instant::compareTo).orElseThrow();
+        if (Duration.between(windowStart, windowEnd).compareTo(MAX_SLOT_WINDOW) > 0) {
+            throw new InvalidEventTimeException("Checked slots cannot span more than " + MAX_SLOT_WINDOW.toDays() + " days");
+        }
+
+        List<BusyInterval> busy = eventRepository.findBusyIntervals(
+                command.calendarId(),
+                windowStart.minus(CONFLICT_BUFFER),
+                windowEnd.plus(CONFLICT_BUFFER)
+        );
+
+        return sweepConflicts(command.slots(), busy);
+    }
+
+    /**
+     * Matches slots against busy intervals sorted by start. Slots are visited in start order, so the
+     * first interval that can still reach the current slot only moves forward; no interval starts more
+     * than the longest busy duration before a slot it overlaps.
+     */
+    private List<SlotConflict> sweepConflicts(List<TimeSlot> slots, List<BusyInterval> busy) {
+        Duration longest = busy.stream()
+                .map(interval -> Duration.between(interval.startTime(), interval.endTime()))
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+
+        Integer[] order = new Integer[slots.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparing(i -> slots.get(i).startTime()));
+
+        SlotConflict[] results = new SlotConflict[slots.size()];
+        int first = 0;
+        for (int index : order) {
+            TimeSlot slot = slots.get(index);
+            Instant from = slot.startTime().minus(CONFLICT_BUFFER);
+            Instant to = slot.endTime().plus(CONFLICT_BUFFER);
+
+            while (first < busy.size() && busy.get(first).startTime().isBefore(from.minus(longest))) {
+                first++;
+            }
+
+            List<String> titles = new ArrayList<>();
+            for (int i = first; i < busy.size() && !busy.get(i).startTime().isAfter(to); i++) {
+                if (busy.get(i).overlaps(from, to)) {
+                    titles.add(busy.get(i).title());
+                }
+            }
+            results[index] = SlotConflict.of(slot, titles);
+        }
+        return List.of(results);
     }
 
     private String getUserIdFromEmail(String email) {
@@ -166,6 +387,14 @@ public class EventService implements EventUseCase {
             throw new InvalidEventTimeException("Cannot create event in the past");
         }
 
+        validateSlot(startTime, endTime);
+    }
+
+    private void validateSlot(Instant startTime, Instant endTime) {
+        if (startTime == null || endTime == null) {
+            throw new InvalidEventTimeException("Start and end time must be specified");
+        }
+
         if (!endTime.isAfter(startTime)) {
             throw new InvalidEventTimeException("End time must be after start time");
         }
@@ -176,19 +405,15 @@ public class EventService implements EventUseCase {
     }
 
     private void checkForConflicts(Long calendarId, Instant startTime, Instant endTime) {
-        List<Event> conflictingEvents = eventRepository.findConflictingEvents(
+        List<String> conflictingTitles = eventRepository.findConflictingTitles(
                 calendarId,
-                startTime.minus(1, ChronoUnit.HOURS),
-                endTime.plus(1, ChronoUnit.HOURS)
+                startTime.minus(CONFLICT_BUFFER),
+                endTime.plus(CONFLICT_BUFFER)
         );
 
-        if (!conflictingEvents.isEmpty()) {
-            String conflictingTitles = conflictingEvents.stream()
-                    .map(Event::getTitle)
-                    .collect(Collectors.joining(", "));
-
+        if (!conflictingTitles.isEmpty()) {
             throw new ConflictException(
-                    "Time conflict with existing events: " + conflictingTitles);
+                    "Time conflict with existing events: " + String.join(", ", conflictingTitles));
         }
     }
 
@@ -0,0 +1,185 @@
+package com.calendar.app.service;
+
+import com.calendar.app.command.AttendeeCommand;
+import com.calendar.app.command.FreeBusyCommand;
+import com.calendar.app.command.MeetingSuggestionCommand;
+import com.calendar.app.port.in.FreeBusyUseCase;
+import com.calendar.domain.BusyBlock;
+import com.calendar.domain.FreeBusy;
+import com.calendar.domain.MeetingSuggestion;
+import com.calendar.domain.exception.AccessDeniedException;
+import com.calendar.domain.exception.InvalidEventTimeException;
+import com.calendar.infra.persistence.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+@RequiredArgsConstructor
+public class FreeBusyService implements FreeBusyUseCase {
+
+    private static final Duration MAX_WINDOW = Duration.ofDays(62);
+    private static final Duration MAX_SUGGESTION_WINDOW = Duration.ofDays(31);
+    private static final long SLOT_MILLIS = Duration.ofMinutes(15).toMillis();
+    private static final int DEFAULT_SUGGESTION_LIMIT = 5;
+
+    private final EventRepository eventRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FreeBusy> getFreeBusy(FreeBusyCommand command, String requesterId) {
+        validateWindow(command.from(), command.to(), MAX_WINDOW);
+        var userIds = new LinkedHashSet<>(command.userIds());
+        validateVisibility(requesterId, userIds);
+
+        Map<String, BusyIntervalMerger> mergers = new HashMap<>();
+        eventRepository.forEachBusyTime(userIds, command.from(), command.to(), (userId, start, end) ->
+                mergers.computeIfAbsent(userId, id -> new BusyIntervalMerger()).add(start, end));
+
+        long from = command.from().toEpochMilli();
+        long to = command.to().toEpochMilli();
+        List<FreeBusy> result = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            var merger = mergers.get(userId);
+            result.add(new FreeBusy(userId, merger == null ? List.of() : toBlocks(merger.merge(from, to))));
+        }
+        return result;
+    }
+
+    /**
+     * Finds windows where the organizer and every required attendee are free, working on 15-minute
+     * slot bitmaps. Windows free for more optional attendees rank first, then earlier ones; returned
+     * windows do not overlap each other.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MeetingSuggestion> suggestMeetingTimes(MeetingSuggestionCommand command, String organizerId) {
+        long from = Math.ceilDiv(command.from().toEpochMilli(), SLOT_MILLIS) * SLOT_MILLIS;
+        long to = Math.floorDiv(command.to().toEpochMilli(), SLOT_MILLIS) * SLOT_MILLIS;
+        validateWindow(Instant.ofEpochMilli(from), Instant.ofEpochMilli(to), MAX_SUGGESTION_WINDOW);
+
+        int slots = (int) ((to - from) / SLOT_MILLIS);
+        int length = (int) Math.ceilDiv(Duration.ofMinutes(command.durationMinutes()).toMillis(), SLOT_MILLIS);
+        if (length > slots) {
+            throw new InvalidEventTimeException("Duration does not fit in the requested window");
+        }
+
+        Set<String> required = new LinkedHashSet<>();
+        required.add(organizerId);
+        Set<String> optional = new LinkedHashSet<>();
+        for (AttendeeCommand attendee : command.attendees()) {
+            (attendee.optional() ? optional : required).add(attendee.email());
+        }
+        optional.removeAll(required);
+
+        Set<String> userIds = new LinkedHashSet<>(required);
+        userIds.addAll(optional);
+        validateVisibility(organizerId, userIds);
+        Map<String, SlotBitmap> free = new HashMap<>();
+        eventRepository.forEachBusyTime(userIds, Instant.ofEpochMilli(from), Instant.ofEpochMilli(to), (userId, start, end) ->
+                free.computeIfAbsent(userId, id -> SlotBitmap.allSet(slots)).clear(
+                        (int) Math.floorDiv(start - from, SLOT_MILLIS),
+                        (int) Math.min(Math.ceilDiv(end - from, SLOT_MILLIS), slots)));
+
+        var requiredFree = SlotBitmap.allSet(slots);
+        required.stream().map(free::get).filter(Objects::nonNull).forEach(requiredFree::and);
+        var candidates = requiredFree.runStarts(length);
+
+        List<String> optionalIds = new ArrayList<>(optional);
+        List<SlotBitmap> optionalStarts = new ArrayList<>(optionalIds.size());
+        int[] optionalFree = new int[slots];
+        for (String userId : optionalIds) {
+            var bitmap = free.get(userId);
+            var starts = bitmap == null ? null : bitmap.runStarts(length);
+            optionalStarts.add(starts);
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                if (starts == null || starts.get(slot)) {
+                    optionalFree[slot]++;
+                }
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>();
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            ranked.add(slot);
+        }
+        ranked.sort(Comparator.<Integer>comparingInt(slot -> -optionalFree[slot]).thenComparingInt(slot -> slot));
+
+        int limit = command.limit() == null ? DEFAULT_SUGGESTION_LIMIT : command.limit();
+        List<Integer> chosen = new ArrayList<>(limit);
+        for (int slot : ranked) {
+            if (chosen.size() == limit) {
+                break;
+            }
+            if (chosen.stream().allMatch(other -> Math.abs(other - slot) >= length)) {
+                chosen.add(slot);
+            }
+        }
+
+        return chosen.stream()
+                .map(slot -> toSuggestion(slot, length, from, optionalIds, optionalStarts))
+                .toList();
+    }
+
+    private static MeetingSuggestion toSuggestion(
+            int slot, int length, long from, List<String> optionalIds, List<SlotBitmap> optionalStarts) {
+        List<String> unavailable = new ArrayList<>();
+        for (int i = 0; i < optionalIds.size(); i++) {
+            var starts = optionalStarts.get(i);
+            if (starts != null && !starts.get(slot)) {
+                unavailable.add(optionalIds.get(i));
+            }
+        }
+        long start = from + slot * SLOT_MILLIS;
+        return new MeetingSuggestion(
+                Instant.ofEpochMilli(start),
+                Instant.ofEpochMilli(start + length * SLOT_MILLIS),
+                unavailable);
+    }
+
+    private static List<BusyBlock> toBlocks(long[] merged) {
+        List<BusyBlock> blocks = new ArrayList<>(merged.length / 2);
+        for (int i = 0; i < merged.length; i += 2) {
+            blocks.add(new BusyBlock(Instant.ofEpochMilli(merged[i]), Instant.ofEpochMilli(merged[i + 1])));
+        }
+        return blocks;
+    }
+
+    /**
+     * Busy times are only disclosed for the requester and users who share an event with them.
+     */
+    private void validateVisibility(String requesterId, Set<String> userIds) {
+        Set<String> hidden = new TreeSet<>(userIds);
+        hidden.remove(requesterId);
+        if (hidden.isEmpty()) {
+            return;
+        }
+
+        hidden.removeAll(eventRepository.findUsersSharingEventsWith(requesterId, hidden));
+        if (!hidden.isEmpty()) {
+            throw new AccessDeniedException("User " + requesterId + " cannot see free/busy of " + String.join(", ", hidden));
+        }
+    }
+
+    private void validateWindow(Instant from, Instant to, Duration maxWindow) {
+        if (!to.isAfter(from)) {
+            throw new InvalidEventTimeException("End time must be after start time");
+        }
+
+        if (Duration.between(from, to).compareTo(maxWindow) > 0) {
+            throw new InvalidEventTimeException("Free/busy window cannot be longer than " + maxWindow.toDays() + " days");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.calendar.app.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel over {@link System#nanoTime()} deadlines. Level 0 has {@code wheelSize}
+ * buckets of one tick each, every higher level buckets {@code wheelSize} times coarser; entries are
+ * cascaded down a level when their bucket comes up. Scheduling is O(1) and advancing costs one bucket
+ * per elapsed tick, independent of the number of pending entries. Deadlines are rounded up to a tick.
+ * Not thread-safe on its own; callers synchronize.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int wheelSize;
+    private final long originNanos;
+    private final List<List<Entry<T>>[]> levels = new ArrayList<>();
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private final List<Entry<T>> due = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, int levelCount, long startNanos) {
+        if (tick.isNegative() || tick.isZero() || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        }
+        this.tickNanos = tick.toNanos();
+        this.wheelSize = wheelSize;
+        this.originNanos = startNanos;
+        for (int level = 0; level < levelCount; level++) {
+            @SuppressWarnings("unchecked")
+            List<Entry<T>>[] buckets = new List[wheelSize];
+            levels.add(buckets);
+        }
+    }
+
+    public void schedule(T item, long deadlineNanos) {
+        long deadlineTick = Math.ceilDiv(deadlineNanos - originNanos, tickNanos);
+        place(new Entry<>(item, deadlineTick));
+        size++;
+    }
+
+    /**
+     * Moves the wheel to {@code nowNanos} and returns the entries whose deadline has passed, in no
+     * particular order.
+     */
+    public List<T> advance(long nowNanos) {
+        long targetTick = Math.floorDiv(nowNanos - originNanos, tickNanos);
+        List<T> expired = new ArrayList<>();
+        drainDue(expired);
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Entry<T>>[] firstLevel = levels.getFirst();
+            int slot = (int) Math.floorMod(currentTick, (long) wheelSize);
+            if (firstLevel[slot] != null) {
+                firstLevel[slot].forEach(entry -> expired.add(entry.item()));
+                firstLevel[slot] = null;
+            }
+            drainDue(expired);
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    /**
+     * Removes and returns every pending entry.
+     */
+    public List<T> clear() {
+        List<T> pending = new ArrayList<>(size);
+        due.forEach(entry -> pending.add(entry.item()));
+        overflow.forEach(entry -> pending.add(entry.item()));
+        due.clear();
+        overflow.clear();
+        for (List<Entry<T>>[] buckets : levels) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                if (buckets[slot] != null) {
+                    buckets[slot].forEach(entry -> pending.add(entry.item()));
+                    buckets[slot] = null;
+                }
+            }
+        }
+        size = 0;
+        return pending;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        if (entry.deadlineTick() <= currentTick) {
+            due.add(entry);
+            return;
+        }
+        long span = 1;
+        for (List<Entry<T>>[] buckets : levels) {
+            long deadlineBucket = Math.floorDiv(entry.deadlineTick(), span);
+            if (deadlineBucket - Math.floorDiv(currentTick, span) < wheelSize) {
+                int slot = (int) Math.floorMod(deadlineBucket, (long) wheelSize);
+                if (buckets[slot] == null) {
+                    buckets[slot] = new ArrayList<>();
+                }
+                buckets[slot].add(entry);
+                return;
+            }
+            span *= wheelSize;
+        }
+        overflow.add(entry);
+    }
+
+    /**
+     * Re-places the entries of every higher-level bucket that starts at the current tick, top level
+     * first, so they land in the finer buckets before level 0 is read.
+     */
+    private void cascade() {
+        long span = 1;
+        for (int level = 1; level < levels.size(); level++) {
+            span *= wheelSize;
+        }
+        if (Math.floorMod(currentTick, span * wheelSize) == 0 && !overflow.isEmpty()) {
+            List<Entry<T>> pending = new ArrayList<>(overflow);
+            overflow.clear();
+            pending.forEach(this::place);
+        }
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            if (Math.floorMod(currentTick, span) == 0) {
+                List<Entry<T>>[] buckets = levels.get(level);
+                int slot = (int) Math.floorMod(Math.floorDiv(currentTick, span), (long) wheelSize);
+                List<Entry<T>> pending = buckets[slot];
+                buckets[slot] = null;
+                if (pending != null) {
+                    pending.forEach(this::place);
+                }
+            }
+            span /= wheelSize;
+        }
+    }
+
+    private void drainDue(List<T> expired) {
+        due.forEach(entry -> expired.add(entry.item()));
+        due.clear();
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.calendar.app.service;
+
+import com.calendar.domain.Notification;
+import com.calendar.domain.ReminderMethod;
+import com.calendar.infra.persistence.repository.NotificationJobRepository.ClaimedJob;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merges claimed jobs about the same event for the same recipient into one digest message, so a burst
+ * of attendee changes reaches each person as a single notification. Jobs without an event are passed
+ * through unchanged. Digests keep the order of their first job, and repeated lines are dropped.
+ */
+public final class NotificationCoalescer {
+
+    private NotificationCoalescer() {
+    }
+
+    public static List<Digest> coalesce(List<ClaimedJob> jobs) {
+        Map<Object, List<ClaimedJob>> groups = new LinkedHashMap<>();
+        for (ClaimedJob job : jobs) {
+            Notification notification = job.notification();
+            // jobs without an event are never merged, so each is keyed by its own id
+            Object key = notification.eventId() == null
+                    ? job.id()
+                    : new Key(notification.method(), notification.recipient(), notification.eventId());
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(job);
+        }
+        List<Digest> digests = new ArrayList<>(groups.size());
+        groups.forEach((key, group) -> digests.add(new Digest(group,
+                key instanceof Key eventKey ? merge(eventKey, group) : group.getFirst().notification())));
+        return digests;
+    }
+
+    private static Notification merge(Key key, List<ClaimedJob> group) {
+        Set<String> lines = new LinkedHashSet<>();
+        group.forEach(job -> lines.add(job.notification().message()));
+        if (lines.size() == 1) {
+            return group.getFirst().notification();
+        }
+        StringBuilder message = new StringBuilder("Zmiany w wydarzeniu %d:".formatted(key.eventId()));
+        lines.forEach(line -> message.append("\n- ").append(line));
+        return new Notification(key.method(), key.recipient(), key.eventId(), message.toString());
+    }
+
+    /**
+     * One message to send on behalf of {@code jobs}; they all succeed or fail with it.
+     */
+    public record Digest(List<ClaimedJob> jobs, Notification notification) {
+    }
+
+    private record Key(ReminderMethod method, String recipient, Long eventId) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.calendar.app.service;
+
+import com.calendar.app.port.in.INotificationSendExecutor;
+import com.calendar.app.service.NotificationCoalescer.Digest;
+import com.calendar.domain.ReminderMethod;
+import com.calendar.infra.persistence.repository.NotificationJobRepository;
+import com.calendar.infra.persistence.repository.NotificationJobRepository.ClaimedJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Sends queued notification jobs on virtual threads. Claimed jobs are first merged into per-recipient
+ * digests by {@link NotificationCoalescer}, then split into batches of up to {@code max-batch-size},
+ * each handed to its strategy in one call (one SMTP connection for email). At most {@code concurrency}
+ * batches are in flight, and jobs are only claimed when a permit is free, so a slow mail server backs
+ * the queue up in the database rather than in memory. A drain is kicked off after each committing write
+ * and by a fallback poll, which also picks up retries and jobs left behind by a crashed instance.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationJobRepository jobs;
+    private final INotificationSendExecutor sendExecutor;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final int maxBatchSize;
+
+    private final Semaphore permits;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean backlog = new AtomicBoolean();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer queueLatency;
+    private final Counter coalesced;
+
+    public NotificationDispatcher(
+            NotificationJobRepository jobs,
+            INotificationSendExecutor sendExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${calendar.notifications.dispatcher.enabled:true}") boolean enabled,
+            @Value("${calendar.notifications.dispatcher.concurrency:16}") int concurrency,
+            @Value("${calendar.notifications.dispatcher.max-batch-size:50}") int maxBatchSize,
+            @Value("${calendar.notifications.dispatcher.lease:5m}") Duration lease,
+            @Value("${calendar.notifications.retry.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${calendar.notifications.retry.max-backoff:1h}") Duration maxBackoff,
+            @Value("${calendar.notifications.retry.max-attempts:8}") int maxAttempts) {
+        this.jobs = jobs;
+        this.sendExecutor = sendExecutor;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.maxBatchSize = maxBatchSize;
+        this.permits = new Semaphore(concurrency);
+        this.queueLatency = Timer.builder("notifications.queue.latency")
+                .description("Time from a notification becoming due until a worker picks it up")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("notifications.coalesced")
+                .description("Jobs merged into another job's digest instead of being sent on their own")
+                .register(meterRegistry);
+        meterRegistry.gauge("notifications.queue.depth", queueDepth);
+    }
+
+    /**
+     * Starts a drain once the current transaction commits, so the jobs it enqueued are visible, or right
+     * away when there is no transaction.
+     */
+    public void dispatchAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    drainAsync();
+                }
+            });
+        } else {
+            drainAsync();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.notifications.dispatcher.poll-interval-ms:5000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        queueDepth.set(jobs.countPending());
+        drain();
+    }
+
+    void drain() {
+        while (true) {
+            int available = permits.drainPermits();
+            if (available == 0) {
+                return;
+            }
+            backlog.set(false);
+            List<ClaimedJob> claimed;
+            try {
+                claimed = jobs.claim(available * maxBatchSize, lease);
+            } catch (RuntimeException e) {
+                permits.release(available);
+                log.warn("Could not claim notification jobs", e);
+                return;
+            }
+            claimed.forEach(job -> queueLatency.record(job.overdue()));
+            List<Digest> digests = NotificationCoalescer.coalesce(claimed);
+            coalesced.increment(claimed.size() - digests.size());
+            List<List<Digest>> batches = partition(digests);
+            permits.release(available - batches.size());
+            for (List<Digest> batch : batches) {
+                workers.execute(() -> {
+                    try {
+                        sendBatch(batch);
+                    } finally {
+                        permits.release();
+                        if (backlog.compareAndSet(true, false)) {
+                            drainAsync();
+                        }
+                    }
+                });
+            }
+            if (claimed.size() < available * maxBatchSize) {
+                return;
+            }
+            // every permit went to a full batch, so more are probably waiting: drain again when one frees up
+            backlog.set(true);
+        }
+    }
+
+    private void drainAsync() {
+        workers.execute(this::drain);
+    }
+
+    private List<List<Digest>> partition(List<Digest> digests) {
+        List<List<Digest>> batches = new ArrayList<>();
+        for (int from = 0; from < digests.size(); from += maxBatchSize) {
+            batches.add(digests.subList(from, Math.min(from + maxBatchSize, digests.size())));
+        }
+        return batches;
+    }
+
+    private void sendBatch(List<Digest> batch) {
+        Map<ReminderMethod, List<Digest>> byMethod = batch.stream().collect(Collectors.groupingBy(
+                digest -> digest.notification().method(), () -> new EnumMap<>(ReminderMethod.class), Collectors.toList()));
+        byMethod.forEach(this::send);
+    }
+
+    private void send(ReminderMethod method, List<Digest> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<Integer, Exception> failures;
+        try {
+            failures = sendExecutor.sendBatch(method, batch.stream().map(Digest::notification).toList());
+        } catch (RuntimeException e) {
+            failures = new HashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                failures.put(i, e);
+            }
+        }
+
+        // one sample per strategy call: the batch's wall time is recorded once, not once per message
+        String batchOutcome = failures.isEmpty() ? "sent" : failures.size() == batch.size() ? "failed" : "partial";
+        sample.stop(meterRegistry.timer("notifications.send", "method", method.name(), "outcome", batchOutcome));
+        meterRegistry.summary("notifications.send.batch.size", "method", method.name()).record(batch.size());
+
+        List<Long> sent = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Exception failure = failures.get(i);
+            for (ClaimedJob job : batch.get(i).jobs()) {
+                String outcome = failure == null ? "sent" : failed(job, failure);
+                if (failure == null) {
+                    sent.add(job.id());
+                }
+                meterRegistry.counter("notifications.messages", "method", method.name(), "outcome", outcome).increment();
+            }
+        }
+        if (!sent.isEmpty()) {
+            jobs.delete(sent);
+        }
+    }
+
+    private String failed(ClaimedJob job, Exception failure) {
+        if (job.attempts() >= maxAttempts) {
+            log.error("Giving up on notification job {} after {} attempts", job.id(), job.attempts(), failure);
+            jobs.markFailed(job.id(), failure.toString());
+            return "failed";
+        }
+        Duration delay = backoff(job.attempts());
+        log.warn("Notification job {} failed (attempt {}), retrying in {}", job.id(), job.attempts(), delay, failure);
+        jobs.retryLater(job.id(), delay, failure.toString());
+        return "retry";
+    }
+
+    Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            // claimed jobs become claimable again once their lease runs out
+            workers.shutdownNow();
+        }
+    }
+}
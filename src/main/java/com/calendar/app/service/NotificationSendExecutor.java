@@ -2,9 +2,12 @@ package com.calendar.app.service;
 
 import com.calendar.app.port.in.INotificationSendExecutor;
 import com.calendar.app.port.in.NotificationStrategy;
+import com.calendar.domain.Notification;
 import com.calendar.domain.ReminderMethod;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -15,6 +18,19 @@ public class NotificationSendExecutor implements INotificationSendExecutor {
 
     @Override
     public void sendNotification(ReminderMethod method, String userId, String message) {
-        notificationStrategies.get(method.toString()).execute(userId, message);
+        strategyFor(method).execute(message, userId);
+    }
+
+    @Override
+    public Map<Integer, Exception> sendBatch(ReminderMethod method, List<Notification> notifications) {
+        return strategyFor(method).executeBatch(notifications);
+    }
+
+    private NotificationStrategy strategyFor(ReminderMethod method) {
+        NotificationStrategy strategy = notificationStrategies.get(method.toString());
+        if (strategy == null) {
+            throw new IllegalStateException("No notification strategy for " + method);
+        }
+        return strategy;
     }
 }
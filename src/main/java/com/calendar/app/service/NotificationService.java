@@ -3,32 +3,134 @@ package com.calendar.app.service;
 import com.calendar.app.command.AttendeeCommand;
 import com.calendar.app.port.in.NotificationUseCase;
 import com.calendar.domain.Event;
+import com.calendar.domain.Notification;
+import com.calendar.domain.Reminder;
+import com.calendar.domain.ReminderMethod;
 import com.calendar.domain.ResponseStatus;
+import com.calendar.infra.persistence.repository.NotificationJobRepository;
+import com.calendar.infra.persistence.repository.ReminderRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * Records notifications as jobs in the caller's transaction; {@link NotificationDispatcher} sends them
+ * once it commits, so a rolled back write never notifies anyone and a committed one is never lost.
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class NotificationService implements NotificationUseCase {
+
+    private static final DateTimeFormatter START_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm 'UTC'").withZone(ZoneOffset.UTC);
+
+    private final NotificationJobRepository notificationJobs;
+    private final NotificationDispatcher dispatcher;
+    private final ReminderRepository reminderRepository;
+
+    @Value("${calendar.reminders.default-offsets:15m}")
+    private List<Duration> defaultReminderOffsets;
+
+    @Value("${calendar.notifications.coalescing.window:30s}")
+    private Duration coalescingWindow;
+
     @Override
     public void scheduleDefaultReminders(Event event) {
+        if (defaultReminderOffsets.isEmpty()) {
+            return;
+        }
+        reminderRepository.scheduleBeforeStart(event.getId(), defaultReminderOffsets, ReminderMethod.EMAIL);
         log.info("Zaplanowano przypomnienia dla wydarzenia: {}", event.getTitle());
     }
 
+    /**
+     * Deletes fired reminders and turns those this call actually deleted into notification jobs for
+     * the organizer and every attendee who has not declined, in one transaction. A reminder whose
+     * claim expired and was fired by another node in the meantime is already gone and is skipped.
+     * Reminders of events that have already ended are dropped.
+     */
+    @Override
+    @Transactional
+    public void sendReminders(List<Reminder> reminders) {
+        Set<UUID> deleted = reminderRepository.delete(reminders.stream().map(Reminder::getId).toList());
+        List<Reminder> owned = reminders.stream().filter(reminder -> deleted.contains(reminder.getId())).toList();
+        if (owned.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<String>> recipients = reminderRepository.findRecipients(
+                owned.stream().map(reminder -> reminder.getEvent().getId()).distinct().toList());
+        Instant now = Instant.now();
+        List<Notification> notifications = new ArrayList<>();
+        for (Reminder reminder : owned) {
+            Event event = reminder.getEvent();
+            if (event.getEndTime().isBefore(now)) {
+                continue;
+            }
+            String message = "Przypomnienie: wydarzenie \"%s\" rozpocznie się %s."
+                    .formatted(event.getTitle(), START_TIME_FORMAT.format(event.getStartTime()));
+            recipients.getOrDefault(event.getId(), Set.of()).forEach(recipient ->
+                    notifications.add(new Notification(reminder.getMethod(), recipient, message)));
+        }
+        enqueue(notifications);
+    }
+
     @Override
     public void notifyAboutNewAttendees(Long eventId, List<AttendeeCommand> attendees) {
         log.info("Nowi uczestnicy dodani do wydarzenia {}: {}", eventId, attendees);
+        enqueueEventChanges(attendees.stream()
+                .map(attendee -> eventChange(eventId, attendee.email(),
+                        "Zostałeś dodany jako uczestnik wydarzenia %d.".formatted(eventId)))
+                .toList());
     }
 
     @Override
     public void notifyAboutRemovedAttendee(Long eventId, String attendeeId) {
         log.info("Uczestnik {} został usunięty z wydarzenia {}", attendeeId, eventId);
+        enqueueEventChanges(List.of(eventChange(eventId, attendeeId,
+                "Zostałeś usunięty z listy uczestników wydarzenia %d.".formatted(eventId))));
     }
 
     @Override
     public void notifyAboutResponse(String organizerId, Long eventId, String userId, ResponseStatus status) {
         log.info("Użytkownik {} zmienił status odpowiedzi na {} w wydarzeniu {}", userId, status, eventId);
+        enqueueEventChanges(List.of(eventChange(eventId, organizerId,
+                "Użytkownik %s zmienił status odpowiedzi na %s w wydarzeniu %d.".formatted(userId, status, eventId))));
+    }
+
+    private void enqueue(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        notificationJobs.enqueue(notifications);
+        dispatcher.dispatchAfterCommit();
+    }
+
+    /**
+     * Holds change notifications back for the coalescing window, so changes made in quick succession
+     * reach each recipient as one digest. They are picked up by the dispatcher's poll once due.
+     */
+    private void enqueueEventChanges(List<Notification> notifications) {
+        if (coalescingWindow.isZero()) {
+            enqueue(notifications);
+        } else if (!notifications.isEmpty()) {
+            notificationJobs.enqueueCoalesced(notifications, coalescingWindow);
+        }
+    }
+
+    private static Notification eventChange(Long eventId, String recipient, String message) {
+        return new Notification(ReminderMethod.EMAIL, recipient, eventId, message);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package com.calendar.app.service;
+
+import com.calendar.app.port.in.NotificationUseCase;
+import com.calendar.domain.Reminder;
+import com.calendar.infra.persistence.repository.ReminderRepository;
+import com.calendar.infra.persistence.repository.ReminderRepository.ClaimedReminder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires reminders on time across any number of nodes. Each node periodically claims the reminders due
+ * within {@code horizon} and keeps them in a {@link HierarchicalTimingWheel}; a short tick hands the
+ * expired ones to {@link NotificationUseCase#sendReminders}, which queues them for the
+ * {@link NotificationDispatcher}. A claim lasts until {@code grace} past the reminder's time, so
+ * reminders of a node that dies are fired late by another one rather than lost.
+ */
+@Slf4j
+@Component
+public class ReminderScheduler {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final ReminderRepository reminders;
+    private final NotificationUseCase notificationService;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final Duration grace;
+    private final int batchSize;
+
+    private final HierarchicalTimingWheel<Reminder> wheel;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ReminderScheduler(
+            ReminderRepository reminders,
+            NotificationUseCase notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${calendar.reminders.scheduler.enabled:true}") boolean enabled,
+            @Value("${calendar.reminders.scheduler.horizon:5m}") Duration horizon,
+            @Value("${calendar.reminders.scheduler.grace:2m}") Duration grace,
+            @Value("${calendar.reminders.scheduler.batch-size:1000}") int batchSize,
+            @Value("${calendar.reminders.scheduler.tick-ms:100}") long tickMillis) {
+        this.reminders = reminders;
+        this.notificationService = notificationService;
+        this.enabled = enabled;
+        this.horizon = horizon;
+        this.grace = grace;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(Duration.ofMillis(tickMillis), WHEEL_SIZE, WHEEL_LEVELS, System.nanoTime());
+        meterRegistry.gauge("reminders.scheduled", this, scheduler -> scheduler.scheduledCount());
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.reminders.scheduler.load-interval-ms:30000}")
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        List<ClaimedReminder> claimed;
+        do {
+            long claimedAt = System.nanoTime();
+            claimed = reminders.claimDue(horizon, grace, batchSize);
+            synchronized (wheel) {
+                claimed.forEach(c -> wheel.schedule(c.reminder(), claimedAt + c.dueIn().toNanos()));
+            }
+        } while (claimed.size() == batchSize);
+    }
+
+    @Scheduled(fixedRateString = "${calendar.reminders.scheduler.tick-ms:100}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        List<Reminder> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.nanoTime());
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Reminder> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            workers.execute(() -> fire(batch));
+        }
+    }
+
+    private void fire(List<Reminder> batch) {
+        try {
+            notificationService.sendReminders(batch);
+        } catch (RuntimeException e) {
+            // the claims run out after the grace period and the reminders are fired again
+            log.warn("Could not send {} reminders", batch.size(), e);
+        }
+    }
+
+    int scheduledCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+        if (!enabled) {
+            return;
+        }
+        List<Reminder> pending;
+        synchronized (wheel) {
+            pending = wheel.clear();
+        }
+        if (!pending.isEmpty()) {
+            reminders.release(pending.stream().map(Reminder::getId).toList());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.calendar.app.service;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size bitmap over consecutive time slots, backed by {@code long} words.
+ * Bits past {@code size} are always clear.
+ */
+public final class SlotBitmap {
+
+    private final long[] words;
+    private final int size;
+
+    private SlotBitmap(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    public static SlotBitmap allSet(int size) {
+        var bitmap = new SlotBitmap(new long[(size + 63) >>> 6], size);
+        bitmap.set(0, size);
+        return bitmap;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean get(int slot) {
+        return slot >= 0 && slot < size && (words[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Sets slots in [from, to), clamped to the bitmap.
+     */
+    public void set(int from, int to) {
+        applyRange(from, to, true);
+    }
+
+    /**
+     * Clears slots in [from, to), clamped to the bitmap.
+     */
+    public void clear(int from, int to) {
+        applyRange(from, to, false);
+    }
+
+    public void and(SlotBitmap other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    /**
+     * Slots where a run of {@code length} set slots starts. Built from log2(length) shifted ANDs.
+     */
+    public SlotBitmap runStarts(int length) {
+        var run = new SlotBitmap(Arrays.copyOf(words, words.length), size);
+        int covered = 1;
+        while (covered < length) {
+            int step = Math.min(covered, length - covered);
+            run.andShiftedDown(step);
+            covered += step;
+        }
+        return run;
+    }
+
+    public int nextSetBit(int from) {
+        if (from >= size) {
+            return -1;
+        }
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+
+    private void andShiftedDown(int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int i = 0; i < words.length; i++) {
+            int source = i + wordShift;
+            long low = source < words.length ? words[source] : 0;
+            long high = source + 1 < words.length ? words[source + 1] : 0;
+            long shifted = bitShift == 0 ? low : (low >>> bitShift) | (high << (64 - bitShift));
+            words[i] &= shifted;
+        }
+    }
+
+    private void applyRange(int from, int to, boolean value) {
+        from = Math.max(from, 0);
+        to = Math.min(to, size);
+        if (from >= to) {
+            return;
+        }
+
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        for (int i = first; i <= last; i++) {
+            long mask = -1L;
+            if (i == first) {
+                mask &= -1L << from;
+            }
+            if (i == last) {
+                mask &= -1L >>> (63 - ((to - 1) & 63));
+            }
+            words[i] = value ? words[i] | mask : words[i] & ~mask;
+        }
+    }
+}
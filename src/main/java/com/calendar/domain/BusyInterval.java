@@ -0,0 +1,10 @@
+package com.calendar.domain;
+
+import java.time.Instant;
+
+public record BusyInterval(Long eventId, String title, Instant startTime, Instant endTime) {
+
+    public boolean overlaps(Instant windowStart, Instant windowEnd) {
+        return !startTime.isAfter(windowEnd) && !endTime.isBefore(windowStart);
+    }
+}
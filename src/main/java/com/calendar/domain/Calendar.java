@@ -14,6 +14,7 @@ public class Calendar {
     private String name;
     private String description;
     private String ownerId;
+    private Long version;
 
     public void updateBasicInfo(String name, String description) {
         if (name == null || name.isBlank()) {
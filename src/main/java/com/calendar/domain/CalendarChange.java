@@ -0,0 +1,7 @@
+package com.calendar.domain;
+
+/**
+ * A change pushed to one user. It only names what changed; clients fetch the current state themselves.
+ */
+public record CalendarChange(Long id, String userId, Long calendarId, Long eventId, ChangeType type) {
+}
@@ -0,0 +1,12 @@
+package com.calendar.domain;
+
+/**
+ * Aggregate fingerprint of all calendars of an owner: creating, updating or deleting any of them
+ * changes at least one component.
+ */
+public record CalendarListVersion(Long calendarCount, Long maxId, Long versionSum) {
+
+    public String tag() {
+        return calendarCount + "-" + (maxId == null ? 0 : maxId) + "-" + (versionSum == null ? 0 : versionSum);
+    }
+}
@@ -0,0 +1,11 @@
+package com.calendar.domain;
+
+public enum ChangeType {
+    CALENDAR_CREATED,
+    CALENDAR_UPDATED,
+    CALENDAR_DELETED,
+    EVENT_CREATED,
+    EVENT_UPDATED,
+    /** The event is no longer visible to the recipient, e.g. after they were removed as attendee. */
+    EVENT_REMOVED
+}
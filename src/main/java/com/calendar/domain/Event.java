@@ -19,6 +19,7 @@ public class Event {
     private String organizerId;
     private EventStatus status;
     private List<Attendee> attendees;
+    private Long version;
 
     public boolean isVisibleTo(String userId) {
         return this.organizerId.equals(userId) ||
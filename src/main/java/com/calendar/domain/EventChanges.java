@@ -0,0 +1,10 @@
+package com.calendar.domain;
+
+import java.util.List;
+
+/**
+ * Events of a calendar created or updated since a sync token, ids of events deleted since then, and
+ * the token to pass on the next sync. Without a starting token, {@code changed} holds every event.
+ */
+public record EventChanges(List<Event> changed, List<Long> deletedEventIds, String syncToken) {
+}
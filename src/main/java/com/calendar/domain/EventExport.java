@@ -0,0 +1,12 @@
+package com.calendar.domain;
+
+import java.util.function.Consumer;
+
+/**
+ * An export query whose filter has already been validated. {@link #writeTo} runs it and hands every
+ * matching event to the consumer; it may be called later, e.g. once the response headers are sent.
+ */
+@FunctionalInterface
+public interface EventExport {
+    void writeTo(Consumer<Event> consumer);
+}
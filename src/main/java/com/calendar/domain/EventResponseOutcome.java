@@ -0,0 +1,10 @@
+package com.calendar.domain;
+
+public record EventResponseOutcome(Long eventId, ResponseStatus status, Result result) {
+
+    public enum Result {
+        UPDATED,
+        NOT_ATTENDEE,
+        REJECTED
+    }
+}
@@ -0,0 +1,29 @@
+package com.calendar.domain;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Fingerprint of an event and its attendee list, loaded instead of the event to answer conditional
+ * requests. {@code viewerAttendances} counts the attendee rows of the user it was loaded for.
+ */
+public record EventVersion(
+        String organizerId,
+        Long version,
+        Long attendeeCount,
+        Instant attendeesUpdatedAt,
+        Long viewerAttendances) {
+
+    public boolean isVisibleTo(String userId) {
+        return organizerId.equals(userId) || viewerAttendances > 0;
+    }
+
+    /**
+     * Changes whenever the event row or any of its attendees is written, since attendee writes do not
+     * bump the event version.
+     */
+    public String tag() {
+        long attendeesUpdated = attendeesUpdatedAt == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, attendeesUpdatedAt);
+        return (version == null ? 0 : version) + "-" + attendeeCount + "-" + attendeesUpdated;
+    }
+}
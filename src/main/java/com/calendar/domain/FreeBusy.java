@@ -0,0 +1,6 @@
+package com.calendar.domain;
+
+import java.util.List;
+
+public record FreeBusy(String userId, List<BusyBlock> busy) {
+}
@@ -0,0 +1,7 @@
+package com.calendar.domain;
+
+import java.time.Instant;
+import java.util.List;
+
+public record MeetingSuggestion(Instant start, Instant end, List<String> unavailableOptionalAttendees) {
+}
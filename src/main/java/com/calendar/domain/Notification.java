@@ -0,0 +1,12 @@
+package com.calendar.domain;
+
+/**
+ * A message for one recipient. Notifications about changes to an event carry its {@code eventId} and
+ * may be merged with others for the same recipient and event into a digest; the rest leave it null.
+ */
+public record Notification(ReminderMethod method, String recipient, Long eventId, String message) {
+
+    public Notification(ReminderMethod method, String recipient, String message) {
+        this(method, recipient, null, message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.calendar.domain;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlotConflict(Instant startTime, Instant endTime, boolean conflicting, List<String> conflictingTitles) {
+
+    public static SlotConflict of(TimeSlot slot, List<String> conflictingTitles) {
+        return new SlotConflict(slot.startTime(), slot.endTime(), !conflictingTitles.isEmpty(), conflictingTitles);
+    }
+}
@@ -0,0 +1,34 @@
+package com.calendar.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in the event change stream handed to sync clients. Changes stamped at or after
+ * {@code position} were not visible when the token was issued. Deletions are only kept for the
+ * change log retention, so a token older than that expires and the client must sync from scratch.
+ */
+public record SyncToken(long position) {
+    private static final String PREFIX = "v1:";
+
+    public String encode() {
+        var raw = PREFIX + position;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid sync token: " + token);
+            }
+            return new SyncToken(Long.parseLong(raw.substring(PREFIX.length())));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.calendar.domain;
+
+import java.time.Instant;
+
+public record TimeSlot(Instant startTime, Instant endTime) {
+}
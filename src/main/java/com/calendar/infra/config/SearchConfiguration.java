@@ -0,0 +1,23 @@
+package com.calendar.infra.config;
+
+import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.provided.search.spec.SearchFieldRegistry;
+import com.calendar.infra.provided.search.spec.SearchPlanCompiler;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfiguration {
+
+    @Bean
+    public SearchPlanCompiler<EventEntity> eventSearchPlanCompiler(EntityManagerFactory entityManagerFactory) {
+        var registry = SearchFieldRegistry.of(
+                entityManagerFactory.getMetamodel(),
+                EventEntity.class,
+                "id", "calendar.id", "organizerId", "status", "startTime", "endTime", "title")
+                .withRange("period", "startTime", "endTime")
+                .withText("text", "title", "description");
+        return new SearchPlanCompiler<>(registry);
+    }
+}
@@ -1,15 +1,21 @@
 package com.calendar.infra.config;
 
+import com.calendar.infra.security.CachingJwtDecoder;
+import com.calendar.infra.security.LocalJwkSetDecoder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.SupplierJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -19,6 +25,15 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
     private String issuerUri;
 
+    @Value("${calendar.security.jwt.jwk-set-file:}")
+    private String jwkSetFile;
+
+    @Value("${calendar.security.jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
+    @Value("${calendar.security.jwt.cache.max-ttl:15m}")
+    private Duration jwtCacheMaxTtl;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -35,6 +50,9 @@ public class SecurityConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+        JwtDecoder delegate = !jwkSetFile.isBlank()
+                ? LocalJwkSetDecoder.create(new DefaultResourceLoader().getResource(jwkSetFile), issuerUri)
+                : new SupplierJwtDecoder(() -> NimbusJwtDecoder.withIssuerLocation(issuerUri).build());
+        return new CachingJwtDecoder(delegate, jwtCacheMaxSize, jwtCacheMaxTtl);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.calendar.infra.config;
 
+import com.calendar.infra.web.rest.EventController;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -15,6 +16,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:4200")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(EventController.NEXT_CURSOR_HEADER)
                 .allowCredentials(true);
     }
 }
\ No newline at end of file
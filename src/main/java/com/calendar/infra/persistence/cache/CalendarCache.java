@@ -0,0 +1,69 @@
+package com.calendar.infra.persistence.cache;
+
+import com.calendar.domain.Calendar;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded cache of calendar metadata, including the owner used for ownership checks.
+ * Callers always get a copy, since {@link Calendar} is mutable. Writers invalidate an entry right away
+ * and again when their transaction completes, so a reader that loaded the old row in between does not
+ * keep it.
+ */
+@Component
+public class CalendarCache {
+
+    private static final String CACHE_NAME = "calendars";
+
+    private final Cache<Long, Calendar> cache;
+
+    public CalendarCache(
+            @Value("${calendar.cache.calendars.max-size:10000}") long maxSize,
+            @Value("${calendar.cache.calendars.ttl:10m}") Duration ttl,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    public Optional<Calendar> get(Long calendarId, Function<Long, Optional<Calendar>> loader) {
+        Calendar cached = cache.get(calendarId, id -> loader.apply(id).orElse(null));
+        return Optional.ofNullable(cached).map(CalendarCache::copy);
+    }
+
+    public void invalidate(Long calendarId) {
+        cache.invalidate(calendarId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(calendarId);
+                }
+            });
+        }
+    }
+
+    private static Calendar copy(Calendar calendar) {
+        return Calendar.builder()
+                .id(calendar.getId())
+                .name(calendar.getName())
+                .description(calendar.getDescription())
+                .ownerId(calendar.getOwnerId())
+                .version(calendar.getVersion())
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package com.calendar.infra.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -12,6 +14,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "calendars")
 public class CalendarEntity {
 
     @Id
@@ -28,4 +31,7 @@ public class CalendarEntity {
 
     @OneToMany(mappedBy = "calendar", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EventEntity> events;
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.calendar.infra.persistence.entity;
 import com.calendar.domain.EventStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.List;
@@ -14,10 +16,12 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 public class EventEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -40,6 +44,7 @@ public class EventEntity {
     @Column(nullable = false)
     private EventStatus status;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-attendees")
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AttendeeEntity> attendeeEntities;
 
@@ -0,0 +1,226 @@
+package com.calendar.infra.persistence.index;
+
+import com.calendar.domain.BusyInterval;
+import com.calendar.domain.Event;
+import com.calendar.domain.EventStatus;
+import com.calendar.infra.persistence.repository.EventRepository.JpaEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Optional in-process index of non-cancelled event intervals per calendar, used to answer conflict
+ * checks without a query. A calendar is loaded on first use, kept current by committed writes on this
+ * node and dropped after {@code ttl}, so writes from other nodes are picked up on reload. Calendars are
+ * evicted least-recently-used; calendars with too many upcoming events are not indexed at all.
+ * <p>
+ * An empty result means the index cannot answer and the caller must query the database.
+ */
+@Slf4j
+@Component
+public class EventIntervalIndex {
+
+    private static final Comparator<BusyInterval> BY_START = Comparator
+            .comparing(BusyInterval::startTime)
+            .thenComparing(BusyInterval::eventId);
+    private static final Duration LOOKBACK = Duration.ofDays(1);
+
+    private final JpaEventRepository jpaRepository;
+    private final boolean enabled;
+    private final int maxIntervalsPerCalendar;
+    private final Duration ttl;
+    private final Map<Long, CalendarIntervals> calendars;
+
+    public EventIntervalIndex(
+            JpaEventRepository jpaRepository,
+            @Value("${calendar.conflicts.interval-index.enabled:false}") boolean enabled,
+            @Value("${calendar.conflicts.interval-index.max-calendars:1000}") int maxCalendars,
+            @Value("${calendar.conflicts.interval-index.max-intervals-per-calendar:5000}") int maxIntervalsPerCalendar,
+            @Value("${calendar.conflicts.interval-index.ttl:5m}") Duration ttl) {
+        this.jpaRepository = jpaRepository;
+        this.enabled = enabled;
+        this.maxIntervalsPerCalendar = maxIntervalsPerCalendar;
+        this.ttl = ttl;
+        this.calendars = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CalendarIntervals> eldest) {
+                return size() > maxCalendars;
+            }
+        };
+    }
+
+    public Optional<List<String>> findConflictingTitles(Long calendarId, Instant windowStart, Instant windowEnd) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        var now = Instant.now();
+        CalendarIntervals entry;
+        synchronized (this) {
+            entry = calendars.get(calendarId);
+            if (entry != null && entry.isReady(now, ttl)) {
+                return entry.conflictingTitles(windowStart, windowEnd);
+            }
+            if (entry != null && entry.isLoading()) {
+                return Optional.empty();
+            }
+            entry = new CalendarIntervals(now.minus(LOOKBACK));
+            calendars.put(calendarId, entry);
+        }
+
+        List<BusyInterval> intervals;
+        try {
+            intervals = jpaRepository.findIntervalsEndingAfter(
+                    calendarId, entry.coveredFrom, Limit.of(maxIntervalsPerCalendar + 1));
+        } catch (RuntimeException e) {
+            // a failed load must not leave the placeholder behind, or the calendar is never indexed again
+            synchronized (this) {
+                calendars.remove(calendarId, entry);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            if (calendars.get(calendarId) != entry || entry.stale) {
+                calendars.remove(calendarId, entry);
+                return Optional.empty();
+            }
+            if (intervals.size() > maxIntervalsPerCalendar) {
+                log.debug("Calendar {} has too many upcoming events to index", calendarId);
+                entry.markOversized(now);
+                return Optional.empty();
+            }
+            entry.load(intervals, now);
+            return entry.conflictingTitles(windowStart, windowEnd);
+        }
+    }
+
+    public void onEventSaved(Event event) {
+        if (!enabled) {
+            return;
+        }
+
+        var interval = new BusyInterval(event.getId(), event.getTitle(), event.getStartTime(), event.getEndTime());
+        var cancelled = event.getStatus() == EventStatus.CANCELLED;
+        afterCommit(() -> apply(event.getCalendarId(), interval, cancelled));
+    }
+
+    public void invalidate(Long calendarId) {
+        if (!enabled) {
+            return;
+        }
+
+        afterCommit(() -> apply(calendarId, null, false));
+    }
+
+    private synchronized void apply(Long calendarId, BusyInterval interval, boolean cancelled) {
+        var entry = calendars.get(calendarId);
+        if (entry == null) {
+            return;
+        }
+        if (entry.isLoading()) {
+            entry.stale = true;
+            return;
+        }
+        if (interval == null || !entry.update(interval, cancelled, maxIntervalsPerCalendar)) {
+            calendars.remove(calendarId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class CalendarIntervals {
+        private final Instant coveredFrom;
+        private final NavigableSet<BusyInterval> intervals = new TreeSet<>(BY_START);
+        private final Map<Long, BusyInterval> byEventId = new HashMap<>();
+        private Duration longest = Duration.ZERO;
+        private Instant loadedAt;
+        private boolean oversized;
+        private boolean stale;
+
+        private CalendarIntervals(Instant coveredFrom) {
+            this.coveredFrom = coveredFrom;
+        }
+
+        private boolean isLoading() {
+            return loadedAt == null;
+        }
+
+        private boolean isReady(Instant now, Duration ttl) {
+            return loadedAt != null && loadedAt.plus(ttl).isAfter(now);
+        }
+
+        private void load(List<BusyInterval> loaded, Instant now) {
+            loaded.forEach(this::add);
+            loadedAt = now;
+        }
+
+        private void markOversized(Instant now) {
+            oversized = true;
+            loadedAt = now;
+        }
+
+        private boolean update(BusyInterval interval, boolean cancelled, int maxIntervals) {
+            if (oversized) {
+                return true;
+            }
+            var previous = byEventId.remove(interval.eventId());
+            if (previous != null) {
+                intervals.remove(previous);
+            }
+            if (!cancelled) {
+                add(interval);
+            }
+            return intervals.size() <= maxIntervals;
+        }
+
+        private void add(BusyInterval interval) {
+            intervals.add(interval);
+            byEventId.put(interval.eventId(), interval);
+            var duration = Duration.between(interval.startTime(), interval.endTime());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+        }
+
+        private Optional<List<String>> conflictingTitles(Instant windowStart, Instant windowEnd) {
+            if (oversized || windowStart.isBefore(coveredFrom)) {
+                return Optional.empty();
+            }
+
+            // no interval longer than `longest` can start before this and still reach the window
+            var from = new BusyInterval(Long.MIN_VALUE, null, windowStart.minus(longest), null);
+            var to = new BusyInterval(Long.MAX_VALUE, null, windowEnd, null);
+            return Optional.of(intervals.subSet(from, true, to, true).stream()
+                    .filter(interval -> interval.overlaps(windowStart, windowEnd))
+                    .map(BusyInterval::title)
+                    .toList());
+        }
+    }
+}
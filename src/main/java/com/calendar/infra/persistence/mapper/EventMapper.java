@@ -11,8 +11,10 @@ public interface EventMapper {
     EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
 
     @Mapping(target = "attendees", source = "attendeeEntities")
+    @Mapping(target = "calendarId", source = "calendar.id")
     Event toDomain(EventEntity entity);
 
     @Mapping(target = "attendeeEntities", source = "attendees")
+    @Mapping(target = "calendar", ignore = true)
     EventEntity toEntity(Event domain);
 }
\ No newline at end of file
@@ -1,13 +1,31 @@
 package com.calendar.infra.persistence.repository;
 
 import com.calendar.domain.Attendee;
+import com.calendar.domain.ResponseStatus;
 import com.calendar.infra.persistence.entity.AttendeeEntity;
+import com.calendar.infra.persistence.entity.EventEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.calendar.infra.persistence.mapper.AttendeeMapper.attendeeMapper;
 
@@ -15,14 +33,102 @@ import static com.calendar.infra.persistence.mapper.AttendeeMapper.attendeeMappe
 @RequiredArgsConstructor
 public class AttendeeRepository {
 
+    private static final int INSERT_BATCH_SIZE = 50;
+    private static final String ATTENDEES_ROLE = EventEntity.class.getName() + ".attendeeEntities";
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO attendees (id, event_id, user_id, email, display_name, response_status, is_optional, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (event_id, user_id) DO NOTHING
+            """;
+
     private final JpaAttendeeRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     public Attendee save(Attendee attendee) {
-        AttendeeEntity entity = attendeeMapper.toEntity(attendee);
-        AttendeeEntity savedEntity = jpaRepository.save(entity);
+        AttendeeEntity savedEntity = jpaRepository.save(toEntity(attendee));
         return attendeeMapper.toDomain(savedEntity);
     }
 
+    /**
+     * Inserts attendees whose (event, user) pair is not stored yet, in JDBC batches and without reading
+     * existing rows first. Returns the attendees that were inserted; when the driver does not report
+     * per-row counts every attendee is treated as inserted.
+     */
+    public List<Attendee> insertMissing(List<Attendee> attendees) {
+        Instant now = Instant.now();
+        List<Long> ids = allocateIds(attendees.size());
+        List<Integer> rows = IntStream.range(0, attendees.size()).boxed().toList();
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, rows, INSERT_BATCH_SIZE, (ps, row) -> {
+            Attendee attendee = attendees.get(row);
+            ps.setLong(1, ids.get(row));
+            ps.setLong(2, attendee.getEventId());
+            ps.setString(3, attendee.getUserId());
+            ps.setString(4, attendee.getEmail());
+            ps.setString(5, attendee.getDisplayName());
+            ps.setString(6, attendee.getResponseStatus().name());
+            ps.setBoolean(7, attendee.isOptional());
+            ps.setObject(8, now.atOffset(ZoneOffset.UTC));
+            ps.setObject(9, now.atOffset(ZoneOffset.UTC));
+        });
+
+        List<Attendee> inserted = new ArrayList<>(attendees.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    inserted.add(attendees.get(index));
+                }
+                index++;
+            }
+        }
+        Set<Long> eventIds = inserted.stream().map(Attendee::getEventId).collect(Collectors.toSet());
+        evictFromSecondLevelCache(cache -> eventIds.forEach(id -> cache.evictCollectionData(ATTENDEES_ROLE, id)));
+        return inserted;
+    }
+
+    /**
+     * Takes ids from Hibernate's own generator for {@link AttendeeEntity}. attendees_seq steps by 50
+     * for the pooled optimizer, so a raw nextval per row would burn 50 ids each and could hand out ids
+     * from a block Hibernate has already reserved; the generator reads the sequence once per block.
+     */
+    List<Long> allocateIds(int count) {
+        var session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        var generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(AttendeeEntity.class)
+                .getGenerator();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(((Number) generator.generate(session, null)).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * Sets the user's response on all given events with a single UPDATE ... FROM (VALUES ...) and
+     * returns the ids of the events the user actually attends. {@code updated_at} is taken from the
+     * database clock.
+     */
+    public List<Long> updateResponseStatus(String userId, ResponseStatus status, Collection<Long> eventIds) {
+        String values = String.join(", ", Collections.nCopies(eventIds.size(), "(CAST(? AS BIGINT))"));
+        String sql = "UPDATE attendees a SET response_status = ?, updated_at = LOCALTIMESTAMP " +
+                "FROM (VALUES " + values + ") AS v(event_id) " +
+                "WHERE a.event_id = v.event_id AND a.user_id = ? " +
+                "RETURNING a.id, a.event_id";
+
+        List<Object> args = new ArrayList<>(eventIds.size() + 2);
+        args.add(status.name());
+        args.addAll(eventIds);
+        args.add(userId);
+        List<Long> attendeeIds = new ArrayList<>(eventIds.size());
+        List<Long> updated = jdbcTemplate.query(sql, (rs, row) -> {
+            attendeeIds.add(rs.getLong(1));
+            return rs.getLong(2);
+        }, args.toArray());
+        evictFromSecondLevelCache(cache -> attendeeIds.forEach(id -> cache.evictEntityData(AttendeeEntity.class, id)));
+        return updated;
+    }
+
     public List<Attendee> findByEventId(Long eventId) {
         return jpaRepository.findByEventId(eventId).stream()
                 .map(attendeeMapper::toDomain)
@@ -34,13 +140,40 @@ public class AttendeeRepository {
                 .map(attendeeMapper::toDomain);
     }
 
-    public void deleteByEventIdAndUserId(Long eventId, String attendeeId) {
-        jpaRepository.deleteByEventIdAndUserId(eventId, attendeeId);
+    /**
+     * Returns whether the user was an attendee of the event.
+     */
+    public boolean deleteByEventIdAndUserId(Long eventId, String attendeeId) {
+        return jpaRepository.deleteByEventIdAndUserId(eventId, attendeeId) > 0;
+    }
+
+    /**
+     * Writes issued through {@link JdbcTemplate} bypass Hibernate, so the affected second-level cache
+     * entries are evicted by hand: right away and again after the transaction completes, so a reader
+     * that cached the old state in between does not keep it.
+     */
+    private void evictFromSecondLevelCache(Consumer<Cache> eviction) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+
+    private AttendeeEntity toEntity(Attendee attendee) {
+        AttendeeEntity entity = attendeeMapper.toEntity(attendee);
+        entity.setEvent(entityManager.getReference(EventEntity.class, attendee.getEventId()));
+        return entity;
     }
 
     public interface JpaAttendeeRepository extends JpaRepository<AttendeeEntity, Long> {
         List<AttendeeEntity> findByEventId(Long eventId);
         Optional<AttendeeEntity> findByEventIdAndUserId(Long eventId, String userId);
-        void deleteByEventIdAndUserId(Long eventId, String userId);
+        long deleteByEventIdAndUserId(Long eventId, String userId);
     }
 }
\ No newline at end of file
@@ -1,16 +1,24 @@
 package com.calendar.infra.persistence.repository;
 
 import com.calendar.domain.Calendar;
+import com.calendar.domain.CalendarListVersion;
+import com.calendar.infra.persistence.cache.CalendarCache;
 import com.calendar.infra.persistence.entity.CalendarEntity;
+import com.calendar.infra.persistence.index.EventIntervalIndex;
+import jakarta.persistence.QueryHint;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 import static com.calendar.infra.persistence.mapper.CalendarMapper.calendarMapper;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
 
 @Repository
@@ -18,16 +26,26 @@ import static com.calendar.infra.persistence.mapper.CalendarMapper.calendarMappe
 public class CalendarRepository {
 
     private final JpaCalendarRepository repository;
+    private final EventIntervalIndex eventIntervalIndex;
+    private final CalendarCache calendarCache;
 
     public Calendar save(Calendar calendar) {
         CalendarEntity entity = calendarMapper.toEntity(calendar);
         CalendarEntity savedEntity = repository.save(entity);
+        calendarCache.invalidate(savedEntity.getId());
         return calendarMapper.toDomain(savedEntity);
     }
 
     public Optional<Calendar> findById(Long calendarId) {
-        return repository.findById(calendarId)
-                .map(calendarMapper::toDomain);
+        return calendarCache.get(calendarId, id -> repository.findById(id).map(calendarMapper::toDomain));
+    }
+
+    /**
+     * Reads the calendar from the database, bypassing the cache. Use it for anything that is saved
+     * back: a cached copy may carry a version that another node has already moved past.
+     */
+    public Optional<Calendar> findByIdForWrite(Long calendarId) {
+        return repository.findById(calendarId).map(calendarMapper::toDomain);
     }
 
     public List<Calendar> findAllByOwnerId(String ownerId) {
@@ -36,17 +54,29 @@ public class CalendarRepository {
                 .toList();
     }
 
+    public CalendarListVersion findListVersionByOwnerId(String ownerId) {
+        return repository.findListVersionByOwnerId(ownerId);
+    }
+
     public void deleteById(Long calendarId) {
         repository.deleteById(calendarId);
+        calendarCache.invalidate(calendarId);
+        eventIntervalIndex.invalidate(calendarId);
     }
 
     public boolean existsByIdAndOwnerId(Long calendarId, String userId) {
-        return repository.existsByIdAndOwnerId(calendarId, userId);
+        return findById(calendarId)
+                .map(calendar -> calendar.isOwnedBy(userId))
+                .orElse(false);
     }
 
     public interface JpaCalendarRepository extends JpaRepository<CalendarEntity, Long>,
             JpaSpecificationExecutor<CalendarEntity> {
+        @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
         List<CalendarEntity> findAllByOwnerId(String ownerId);
-        boolean existsByIdAndOwnerId(Long calendarId, String userId);
+
+        @Query("SELECT new com.calendar.domain.CalendarListVersion(COUNT(c), MAX(c.id), SUM(c.version)) " +
+                "FROM CalendarEntity c WHERE c.ownerId = :ownerId")
+        CalendarListVersion findListVersionByOwnerId(@Param("ownerId") String ownerId);
     }
 }
@@ -0,0 +1,126 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.domain.CalendarChange;
+import com.calendar.domain.ChangeType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ChangeOutboxRepository {
+
+    private static final String INSERT = """
+            INSERT INTO change_outbox (user_id, calendar_id, event_id, change_type)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String CURRENT_POSITION = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Appends a change of each event for its organizer and all of its current attendees. Pending JPA
+     * writes are flushed first, so the recipients reflect this transaction.
+     */
+    public void appendForEvents(Collection<Long> eventIds, ChangeType type) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+
+        String ids = String.join(", ", Collections.nCopies(eventIds.size(), "?"));
+        String sql = "INSERT INTO change_outbox (user_id, calendar_id, event_id, change_type) " +
+                "SELECT e.organizer_id, e.calendar_id, e.id, ? FROM events e WHERE e.id IN (" + ids + ") " +
+                "UNION " +
+                "SELECT a.user_id, e.calendar_id, e.id, ? FROM attendees a JOIN events e ON e.id = a.event_id " +
+                "WHERE e.id IN (" + ids + ")";
+
+        List<Object> args = new ArrayList<>(eventIds.size() * 2 + 2);
+        args.add(type.name());
+        args.addAll(eventIds);
+        args.add(type.name());
+        args.addAll(eventIds);
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * Appends a change of every event in the calendar for its organizer and attendees, except
+     * {@code exceptUserId}. Must run before the calendar's events are deleted.
+     */
+    public void appendForCalendarEvents(Long calendarId, String exceptUserId, ChangeType type) {
+        entityManager.flush();
+        jdbcTemplate.update("INSERT INTO change_outbox (user_id, calendar_id, event_id, change_type) " +
+                        "SELECT e.organizer_id, e.calendar_id, e.id, ? FROM events e " +
+                        "WHERE e.calendar_id = ? AND e.organizer_id <> ? " +
+                        "UNION " +
+                        "SELECT a.user_id, e.calendar_id, e.id, ? FROM attendees a JOIN events e ON e.id = a.event_id " +
+                        "WHERE e.calendar_id = ? AND a.user_id <> ?",
+                type.name(), calendarId, exceptUserId, type.name(), calendarId, exceptUserId);
+    }
+
+    public void appendForUsers(Collection<String> userIds, Long calendarId, Long eventId, ChangeType type) {
+        jdbcTemplate.batchUpdate(INSERT, userIds, userIds.size(), (ps, userId) -> {
+            ps.setString(1, userId);
+            ps.setObject(2, calendarId);
+            ps.setObject(3, eventId);
+            ps.setString(4, type.name());
+        });
+    }
+
+    /**
+     * Oldest transaction still running: every change committed from now on has {@code change_seq} at
+     * or above it.
+     */
+    public long currentPosition() {
+        return jdbcTemplate.queryForObject(CURRENT_POSITION, Long.class);
+    }
+
+    /**
+     * Changes stamped at or after {@code since}, read in one snapshot together with the next position.
+     * Rows at or after the next position will be returned again by the next call; their ids are
+     * reported in {@link OutboxBatch#pendingIds()} so the caller can skip them then.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public OutboxBatch readSince(long since) {
+        long position = currentPosition();
+        Set<Long> pendingIds = new HashSet<>();
+        List<CalendarChange> changes = jdbcTemplate.query(
+                "SELECT id, user_id, calendar_id, event_id, change_type, change_seq FROM change_outbox " +
+                        "WHERE change_seq >= ? ORDER BY id",
+                (rs, row) -> {
+                    long id = rs.getLong("id");
+                    if (rs.getLong("change_seq") >= position) {
+                        pendingIds.add(id);
+                    }
+                    return new CalendarChange(
+                            id,
+                            rs.getString("user_id"),
+                            rs.getObject("calendar_id", Long.class),
+                            rs.getObject("event_id", Long.class),
+                            ChangeType.valueOf(rs.getString("change_type")));
+                },
+                since);
+        return new OutboxBatch(changes, pendingIds, position);
+    }
+
+    public int deleteOlderThan(Duration retention) {
+        return jdbcTemplate.update(
+                "DELETE FROM change_outbox WHERE created_at < LOCALTIMESTAMP - make_interval(secs => ?)",
+                retention.toSeconds());
+    }
+
+    public record OutboxBatch(List<CalendarChange> changes, Set<Long> pendingIds, long position) {
+    }
+}
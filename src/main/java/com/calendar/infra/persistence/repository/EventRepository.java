@@ -1,39 +1,129 @@
 package com.calendar.infra.persistence.repository;
 
+import com.calendar.domain.BusyInterval;
 import com.calendar.domain.Event;
+import com.calendar.domain.EventChanges;
+import com.calendar.domain.EventExport;
+import com.calendar.domain.EventVersion;
+import com.calendar.domain.SyncToken;
 import com.calendar.domain.exception.CalendarNotFoundException;
+import com.calendar.domain.exception.ConflictException;
+import com.calendar.domain.exception.SyncTokenExpiredException;
+import com.calendar.infra.persistence.entity.CalendarEntity;
 import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.persistence.index.EventIntervalIndex;
+import com.calendar.infra.provided.search.model.CursorPage;
+import com.calendar.infra.provided.search.model.KeysetCursor;
 import com.calendar.infra.provided.search.model.SearchFilter;
+import com.calendar.infra.provided.search.spec.EventKeysetSpecification;
+import com.calendar.infra.provided.search.spec.EventVisibilitySpecification;
+import com.calendar.infra.provided.search.spec.SearchPlanCompiler;
 import com.calendar.infra.provided.search.spec.SearchSpecificationBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import static com.calendar.infra.persistence.mapper.EventMapper.eventMapper;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class EventRepository  {
 
+    private static final String KEYSET_SORT_FIELD = "startTime";
+    private static final int EXPORT_FETCH_SIZE = 500;
+    private static final String NO_OVERLAP_CONSTRAINT = "ex_events_calendar_no_overlap";
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final JpaEventRepository jpaRepository;
     private final CalendarRepository calendarRepository;
+    private final EntityManager entityManager;
+    private final SearchPlanCompiler<EventEntity> searchPlanCompiler;
+    private final EventIntervalIndex eventIntervalIndex;
+
+    @Value("${calendar.conflicts.exclusion-constraint.enabled:false}")
+    private boolean exclusionConstraintEnabled;
+
+    @Value("${calendar.conflicts.exclusion-constraint.recheck-interval:5m}")
+    private Duration constraintRecheckInterval;
+
+    private volatile ConstraintProbe noOverlapProbe;
+
+    /**
+     * Whether the database rejects overlapping events itself, so callers can skip the conflict query.
+     * Requires the flag and the constraint: its changeset is postponed while existing events overlap.
+     * The constraint is looked up again every {@code recheck-interval}, so nodes follow it being added
+     * or dropped without a restart.
+     */
+    public boolean enforcesNoOverlap() {
+        if (!exclusionConstraintEnabled) {
+            return false;
+        }
+        ConstraintProbe probe = noOverlapProbe;
+        long now = System.nanoTime();
+        if (probe == null || now - probe.checkedAt() >= constraintRecheckInterval.toNanos()) {
+            boolean present = jpaRepository.countConstraintsOnEvents(NO_OVERLAP_CONSTRAINT) > 0;
+            if (probe == null || probe.present() != present) {
+                if (present) {
+                    log.info("{} is in place, overlapping events are rejected by the database", NO_OVERLAP_CONSTRAINT);
+                } else {
+                    log.warn("{} is missing, conflicts are checked by query; see event_overlap_conflicts",
+                            NO_OVERLAP_CONSTRAINT);
+                }
+            }
+            probe = new ConstraintProbe(present, now);
+            noOverlapProbe = probe;
+        }
+        return probe.present();
+    }
 
     public Event save(Event event) {
         EventEntity entity = eventMapper.toEntity(event);
 
         calendarRepository.findById(event.getCalendarId())
                 .orElseThrow(() -> new CalendarNotFoundException(event.getCalendarId()));
+        entity.setCalendar(entityManager.getReference(CalendarEntity.class, event.getCalendarId()));
 
-        EventEntity savedEntity = jpaRepository.save(entity);
-        return eventMapper.toDomain(savedEntity);
+        EventEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException ex) {
+            if (isOverlapViolation(ex)) {
+                throw new ConflictException("Time conflict with an existing event");
+            }
+            throw ex;
+        }
+        Event savedEvent = eventMapper.toDomain(savedEntity);
+        eventIntervalIndex.onEventSaved(savedEvent);
+        return savedEvent;
     }
 
     public Optional<Event> findById(Long eventId) {
@@ -41,32 +131,329 @@ public class EventRepository  {
                 .map(eventMapper::toDomain);
     }
 
-    public List<Event> findConflictingEvents(Long calendarId, Instant start, Instant end) {
-        return jpaRepository.findConflictingEvents(calendarId, start, end).stream()
+    /**
+     * Version fingerprint of the event, read with one aggregate over the event row and its attendees.
+     */
+    public Optional<EventVersion> findVersion(Long eventId, String viewerId) {
+        return jpaRepository.findVersion(eventId, viewerId);
+    }
+
+    /**
+     * Changes of the calendar since {@code since}, or all of its events when {@code since} is null.
+     * The returned token is taken from the same snapshot as the changes, so the caller must run this
+     * in a REPEATABLE READ transaction for the token to be exact. A token older than the change log
+     * retention may have missed purged deletions and is rejected; the client has to resync in full.
+     */
+    public EventChanges findChangesSince(Long calendarId, SyncToken since) {
+        long position = jpaRepository.currentSnapshotXmin();
+        if (since != null && since.position() < jpaRepository.changeLogPurgedBefore()) {
+            throw new SyncTokenExpiredException("Sync token has expired, a full resync is required");
+        }
+        if (since == null) {
+            List<Event> events = jpaRepository.findByCalendarId(calendarId).stream()
+                    .map(eventMapper::toDomain)
+                    .toList();
+            return new EventChanges(events, List.of(), new SyncToken(position).encode());
+        }
+
+        List<Event> changed = jpaRepository.findChangedSince(calendarId, since.position()).stream()
                 .map(eventMapper::toDomain)
                 .toList();
+        List<Long> deleted = jpaRepository.findDeletedSince(calendarId, since.position());
+        return new EventChanges(changed, deleted, new SyncToken(position).encode());
+    }
+
+    /**
+     * Drops tombstones and attendee change records older than the retention and moves the sync
+     * horizon past them, in one statement. Returns the number of purged rows.
+     */
+    public long purgeChangeLog(Duration retention) {
+        return jpaRepository.purgeChangeLog(retention.toSeconds());
+    }
+
+    /**
+     * Titles of non-cancelled events in the calendar that touch the closed window [start, end].
+     * Served from the interval index when it is warm, otherwise from the database.
+     */
+    public List<String> findConflictingTitles(Long calendarId, Instant start, Instant end) {
+        return eventIntervalIndex.findConflictingTitles(calendarId, start, end)
+                .orElseGet(() -> jpaRepository.findConflictingTitles(calendarId, start, end));
+    }
+
+    /**
+     * Non-cancelled intervals of the calendar touching [from, to], ordered by start time.
+     */
+    public List<BusyInterval> findBusyIntervals(Long calendarId, Instant from, Instant to) {
+        return jpaRepository.findBusyIntervals(calendarId, from, to);
     }
 
-    public List<Event> findAll(SearchFilter filter) {
-        var specificationBuilder = new SearchSpecificationBuilder<EventEntity>(filter);
-        var specification = specificationBuilder.buildSpecification();
+    /**
+     * Reports every non-cancelled event overlapping [from, to) that one of the users organizes or
+     * attends without having declined, as epoch millis. A user may be reported twice for one event.
+     */
+    public void forEachBusyTime(Collection<String> userIds, Instant from, Instant to, BusyTimeConsumer consumer) {
+        for (Object[] row : jpaRepository.findBusyTimes(userIds, from, to)) {
+            consumer.accept((String) row[0], ((Instant) row[1]).toEpochMilli(), ((Instant) row[2]).toEpochMilli());
+        }
+    }
+
+    /**
+     * Those of {@code userIds} who share an event with the requester: as its organizer or attendee, or
+     * as an attendee of an event in one of the requester's calendars.
+     */
+    public Set<String> findUsersSharingEventsWith(String requesterId, Collection<String> userIds) {
+        return new HashSet<>(jpaRepository.findUsersSharingEventsWith(requesterId, userIds));
+    }
+
+    /**
+     * Organizer of each of the events, by event id; events that do not exist are left out.
+     */
+    public Map<Long, String> findOrganizers(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> organizers = new HashMap<>();
+        jpaRepository.findOrganizers(eventIds).forEach(row -> organizers.put((Long) row[0], (String) row[1]));
+        return organizers;
+    }
+
+    /**
+     * Events the user organizes or attends that overlap [from, to), ordered by start time. Each side of
+     * the union is a range scan on (organizer_id, start_time) or (user_id, event_id); events start at
+     * least {@code maxDuration} before {@code from} are never read.
+     */
+    public List<Event> findAgenda(String userId, Instant from, Instant to, Duration maxDuration, int limit) {
+        return jpaRepository.findAgenda(userId, from, to, from.minus(maxDuration), limit).stream()
+                .map(eventMapper::toDomain)
+                .toList();
+    }
+
+    public List<Event> findAllVisibleTo(SearchFilter filter, String userId) {
+        var specificationBuilder = new SearchSpecificationBuilder<>(searchPlanCompiler, filter);
+        var specification = specificationBuilder.buildSpecification()
+                .and(new EventVisibilitySpecification(userId));
         var pageRequest = specificationBuilder.buildPageRequest();
         return jpaRepository.findAll(specification, pageRequest).stream()
                 .map(eventMapper::toDomain)
                 .toList();
     }
 
+    public CursorPage<Event> findPageVisibleTo(SearchFilter filter, String userId) {
+        var specificationBuilder = new SearchSpecificationBuilder<>(searchPlanCompiler, filter);
+        var sortRequest = filter.getSortRequest();
+        if (sortRequest != null && sortRequest.getField() != null && !KEYSET_SORT_FIELD.equals(sortRequest.getField())) {
+            throw new IllegalArgumentException("Cursor pagination only supports sorting by " + KEYSET_SORT_FIELD);
+        }
+
+        var direction = specificationBuilder.buildSortDirection();
+        var pageSize = specificationBuilder.buildPageSize();
+        var specification = specificationBuilder.buildSpecification()
+                .and(new EventVisibilitySpecification(userId))
+                .and(new EventKeysetSpecification(KeysetCursor.decode(filter.getCursor()), direction));
+        var sort = Sort.by(direction, KEYSET_SORT_FIELD, "id");
+
+        // one extra row tells whether another page exists without a COUNT query
+        List<EventEntity> rows = jpaRepository.findBy(specification, query -> query
+                .sortBy(sort)
+                .limit(pageSize + 1)
+                .all());
+
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows.stream().map(eventMapper::toDomain).toList(), null);
+        }
+
+        var page = rows.subList(0, pageSize);
+        var last = page.getLast();
+        return new CursorPage<>(
+                page.stream().map(eventMapper::toDomain).toList(),
+                new KeysetCursor(last.getStartTime(), last.getId()).encode());
+    }
+
+    /**
+     * Compiles the filter right away, so an invalid one is rejected before anything is streamed. The
+     * returned export emits every visible matching event in (start_time, id) order. Rows are read
+     * through a server-side cursor and handed over in chunks of {@value #EXPORT_FETCH_SIZE}, so
+     * attendees are batch-fetched per chunk and detached entities never accumulate in the persistence
+     * context. The export must run inside a transaction.
+     */
+    public EventExport prepareExport(SearchFilter filter, String userId) {
+        var specification = new SearchSpecificationBuilder<>(searchPlanCompiler, filter).buildSpecification()
+                .and(new EventVisibilitySpecification(userId));
+        return consumer -> stream(specification, consumer);
+    }
+
+    private void stream(Specification<EventEntity> specification, Consumer<Event> consumer) {
+        var cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventEntity> query = cb.createQuery(EventEntity.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+        query.where(specification.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get(KEYSET_SORT_FIELD)), cb.asc(root.get("id")));
+
+        try (Stream<EventEntity> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            List<EventEntity> chunk = new ArrayList<>(EXPORT_FETCH_SIZE);
+            rows.forEach(entity -> {
+                chunk.add(entity);
+                if (chunk.size() == EXPORT_FETCH_SIZE) {
+                    emitAndDetach(chunk, consumer);
+                }
+            });
+            emitAndDetach(chunk, consumer);
+        }
+    }
+
+    private void emitAndDetach(List<EventEntity> chunk, Consumer<Event> consumer) {
+        for (EventEntity entity : chunk) {
+            consumer.accept(eventMapper.toDomain(entity));
+        }
+        chunk.forEach(entityManager::detach);
+        chunk.clear();
+    }
+
+    private static boolean isOverlapViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())
+                    && String.valueOf(sqlException.getMessage()).contains(NO_OVERLAP_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record ConstraintProbe(boolean present, long checkedAt) {
+    }
+
+    @FunctionalInterface
+    public interface BusyTimeConsumer {
+        void accept(String userId, long start, long end);
+    }
+
     public interface JpaEventRepository extends JpaRepository<EventEntity, Long>,
             JpaSpecificationExecutor<EventEntity> {
 
-        @Query("SELECT e FROM EventEntity e WHERE e.calendar.id = :calendarId " +
-                "AND ((e.startTime BETWEEN :start AND :end) OR " +
-                "(e.endTime BETWEEN :start AND :end) OR " +
-                "(e.startTime <= :start AND e.endTime >= :end)) " +
+        @Query("SELECT new com.calendar.domain.EventVersion(e.organizerId, e.version, COUNT(a), MAX(a.updatedAt), " +
+                "SUM(CASE WHEN a.userId = :viewerId THEN 1 ELSE 0 END)) " +
+                "FROM EventEntity e LEFT JOIN e.attendeeEntities a WHERE e.id = :eventId " +
+                "GROUP BY e.id, e.organizerId, e.version")
+        Optional<EventVersion> findVersion(
+                @Param("eventId") Long eventId,
+                @Param("viewerId") String viewerId);
+
+        List<EventEntity> findByCalendarId(Long calendarId);
+
+        @Query(value = "SELECT * FROM events WHERE calendar_id = :calendarId AND (change_seq >= :since " +
+                "OR id IN (SELECT event_id FROM event_attendee_changes " +
+                "WHERE calendar_id = :calendarId AND change_seq >= :since))",
+                nativeQuery = true)
+        List<EventEntity> findChangedSince(
+                @Param("calendarId") Long calendarId,
+                @Param("since") long since);
+
+        @Query(value = "SELECT event_id FROM event_tombstones WHERE calendar_id = :calendarId AND change_seq >= :since",
+                nativeQuery = true)
+        List<Long> findDeletedSince(
+                @Param("calendarId") Long calendarId,
+                @Param("since") long since);
+
+        @Query(value = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", nativeQuery = true)
+        long currentSnapshotXmin();
+
+        @Query(value = "SELECT count(*) FROM pg_constraint c " +
+                "JOIN pg_class t ON t.oid = c.conrelid " +
+                "JOIN pg_namespace n ON n.oid = t.relnamespace " +
+                "WHERE c.conname = :name AND t.relname = 'events' AND n.nspname = current_schema()",
+                nativeQuery = true)
+        long countConstraintsOnEvents(@Param("name") String name);
+
+        @Query(value = "SELECT purged_before FROM event_change_horizon WHERE id = 1", nativeQuery = true)
+        long changeLogPurgedBefore();
+
+        // data-modifying CTEs always run to completion, so the horizon moves even though only counts are read
+        @Query(value = "WITH purged AS (" +
+                "DELETE FROM event_tombstones WHERE deleted_at < LOCALTIMESTAMP - make_interval(secs => :retentionSeconds) " +
+                "RETURNING change_seq), " +
+                "purged_changes AS (" +
+                "DELETE FROM event_attendee_changes WHERE changed_at < LOCALTIMESTAMP - make_interval(secs => :retentionSeconds) " +
+                "RETURNING change_seq), " +
+                "horizon AS (" +
+                "UPDATE event_change_horizon SET purged_before = GREATEST(purged_before, " +
+                "(SELECT MAX(change_seq) + 1 FROM (SELECT change_seq FROM purged UNION ALL SELECT change_seq FROM purged_changes) p)) " +
+                "WHERE id = 1 AND (EXISTS (SELECT 1 FROM purged) OR EXISTS (SELECT 1 FROM purged_changes))) " +
+                "SELECT (SELECT COUNT(*) FROM purged) + (SELECT COUNT(*) FROM purged_changes)",
+                nativeQuery = true)
+        long purgeChangeLog(@Param("retentionSeconds") long retentionSeconds);
+
+        @Query("SELECT e.title FROM EventEntity e WHERE e.calendar.id = :calendarId " +
+                "AND e.startTime <= :end AND e.endTime >= :start " +
                 "AND e.status <> 'CANCELLED'")
-        List<EventEntity> findConflictingEvents(
+        List<String> findConflictingTitles(
                 @Param("calendarId") Long calendarId,
                 @Param("start") Instant start,
                 @Param("end") Instant end);
+
+        @Query("SELECT new com.calendar.domain.BusyInterval(e.id, e.title, e.startTime, e.endTime) " +
+                "FROM EventEntity e WHERE e.calendar.id = :calendarId " +
+                "AND e.endTime >= :from AND e.status <> 'CANCELLED' " +
+                "ORDER BY e.startTime")
+        List<BusyInterval> findIntervalsEndingAfter(
+                @Param("calendarId") Long calendarId,
+                @Param("from") Instant from,
+                Limit limit);
+
+        @Query("SELECT new com.calendar.domain.BusyInterval(e.id, e.title, e.startTime, e.endTime) " +
+                "FROM EventEntity e WHERE e.calendar.id = :calendarId " +
+                "AND e.startTime <= :to AND e.endTime >= :from AND e.status <> 'CANCELLED' " +
+                "ORDER BY e.startTime")
+        List<BusyInterval> findBusyIntervals(
+                @Param("calendarId") Long calendarId,
+                @Param("from") Instant from,
+                @Param("to") Instant to);
+
+        @Query(value = "SELECT * FROM (" +
+                "SELECT e.* FROM events e " +
+                "WHERE e.organizer_id = :userId " +
+                "AND e.start_time > :earliestStart AND e.start_time < :to AND e.end_time > :from " +
+                "UNION " +
+                "SELECT e.* FROM attendees a JOIN events e ON e.id = a.event_id " +
+                "WHERE a.user_id = :userId " +
+                "AND e.start_time > :earliestStart AND e.start_time < :to AND e.end_time > :from" +
+                ") agenda ORDER BY agenda.start_time, agenda.id LIMIT :limit",
+                nativeQuery = true)
+        List<EventEntity> findAgenda(
+                @Param("userId") String userId,
+                @Param("from") Instant from,
+                @Param("to") Instant to,
+                @Param("earliestStart") Instant earliestStart,
+                @Param("limit") int limit);
+
+        @Query("SELECT e.organizerId FROM AttendeeEntity a JOIN a.event e " +
+                "WHERE a.userId = :requesterId AND e.organizerId IN :userIds " +
+                "UNION " +
+                "SELECT a.userId FROM AttendeeEntity a JOIN a.event e " +
+                "WHERE (e.organizerId = :requesterId OR e.calendar.ownerId = :requesterId) AND a.userId IN :userIds " +
+                "UNION " +
+                "SELECT other.userId FROM AttendeeEntity mine JOIN AttendeeEntity other ON other.event = mine.event " +
+                "WHERE mine.userId = :requesterId AND other.userId IN :userIds")
+        List<String> findUsersSharingEventsWith(
+                @Param("requesterId") String requesterId,
+                @Param("userIds") Collection<String> userIds);
+
+        @Query("SELECT e.id, e.organizerId FROM EventEntity e WHERE e.id IN :eventIds")
+        List<Object[]> findOrganizers(@Param("eventIds") Collection<Long> eventIds);
+
+        @Query("SELECT e.organizerId, e.startTime, e.endTime FROM EventEntity e " +
+                "WHERE e.organizerId IN :userIds AND e.status <> 'CANCELLED' " +
+                "AND e.startTime < :to AND e.endTime > :from " +
+                "UNION ALL " +
+                "SELECT a.userId, e.startTime, e.endTime FROM AttendeeEntity a JOIN a.event e " +
+                "WHERE a.userId IN :userIds AND a.responseStatus <> 'DECLINED' AND e.status <> 'CANCELLED' " +
+                "AND e.startTime < :to AND e.endTime > :from")
+        List<Object[]> findBusyTimes(
+                @Param("userIds") Collection<String> userIds,
+                @Param("from") Instant from,
+                @Param("to") Instant to);
     }
 }
\ No newline at end of file
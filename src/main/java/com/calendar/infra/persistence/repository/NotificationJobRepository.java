@@ -0,0 +1,131 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.domain.Notification;
+import com.calendar.domain.ReminderMethod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Durable queue of notifications to send. Jobs are written in the caller's transaction and claimed by
+ * workers with {@code FOR UPDATE SKIP LOCKED}, so several instances can drain the queue side by side.
+ * A claim is a lease: jobs of a worker that died mid-send become claimable again once it expires.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJobRepository {
+
+    private static final int INSERT_BATCH_SIZE = 50;
+    private static final String INSERT = """
+            INSERT INTO notification_jobs (method, recipient, event_id, message)
+            VALUES (?, ?, ?, ?)
+            """;
+    private static final String INSERT_COALESCED = """
+            INSERT INTO notification_jobs (method, recipient, event_id, message, next_attempt_at)
+            SELECT ?, ?, ?, ?,
+                COALESCE(MIN(next_attempt_at), LOCALTIMESTAMP + CAST(? AS DOUBLE PRECISION) * INTERVAL '1' SECOND)
+            FROM notification_jobs
+            WHERE status = 'PENDING' AND recipient = ? AND event_id = ? AND method = ?
+              AND attempts = 0 AND next_attempt_at > LOCALTIMESTAMP
+            """;
+    // a job is due from next_attempt_at, or from the end of the lease of a worker that died sending it
+    private static final String CLAIM = """
+            UPDATE notification_jobs j
+            SET status = 'SENDING', attempts = j.attempts + 1,
+                locked_until = LOCALTIMESTAMP + make_interval(secs => ?)
+            FROM (
+                SELECT id, COALESCE(locked_until, next_attempt_at) AS due_at FROM notification_jobs
+                WHERE (status = 'PENDING' AND next_attempt_at <= LOCALTIMESTAMP)
+                   OR (status = 'SENDING' AND locked_until < LOCALTIMESTAMP)
+                ORDER BY next_attempt_at, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) claimable
+            WHERE j.id = claimable.id
+            RETURNING j.id, j.method, j.recipient, j.event_id, j.message, j.attempts,
+                EXTRACT(EPOCH FROM (LOCALTIMESTAMP - claimable.due_at)) * 1000 AS overdue_millis
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void enqueue(List<Notification> notifications) {
+        jdbcTemplate.batchUpdate(INSERT, notifications, INSERT_BATCH_SIZE, (ps, notification) -> {
+            ps.setString(1, notification.method().name());
+            ps.setString(2, notification.recipient());
+            ps.setObject(3, notification.eventId());
+            ps.setString(4, notification.message());
+        });
+    }
+
+    /**
+     * Enqueues event change notifications so they become due together with the other pending ones for
+     * the same recipient and event, opening a new {@code window} when there are none. Jobs that already
+     * failed and wait for a retry do not count, so a new change is never held back by their backoff.
+     * The dispatcher then claims the window's jobs at once and merges them into a digest.
+     */
+    public void enqueueCoalesced(List<Notification> notifications, Duration window) {
+        jdbcTemplate.batchUpdate(INSERT_COALESCED, notifications, INSERT_BATCH_SIZE, (ps, notification) -> {
+            ps.setString(1, notification.method().name());
+            ps.setString(2, notification.recipient());
+            ps.setLong(3, notification.eventId());
+            ps.setString(4, notification.message());
+            ps.setDouble(5, window.toMillis() / 1000.0);
+            ps.setString(6, notification.recipient());
+            ps.setLong(7, notification.eventId());
+            ps.setString(8, notification.method().name());
+        });
+    }
+
+    /**
+     * Claims up to {@code limit} due jobs for {@code lease}. Runs in its own statement, so the claim is
+     * committed before anything is sent.
+     */
+    public List<ClaimedJob> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM, (rs, row) -> new ClaimedJob(
+                rs.getLong("id"),
+                new Notification(
+                        ReminderMethod.valueOf(rs.getString("method")),
+                        rs.getString("recipient"),
+                        rs.getObject("event_id", Long.class),
+                        rs.getString("message")),
+                rs.getInt("attempts"),
+                Duration.ofMillis(rs.getLong("overdue_millis"))),
+                lease.toSeconds(), limit);
+    }
+
+    public void delete(List<Long> jobIds) {
+        jdbcTemplate.update("DELETE FROM notification_jobs WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", jobIds.toArray())));
+    }
+
+    public void retryLater(long jobId, Duration delay, String error) {
+        jdbcTemplate.update("""
+                UPDATE notification_jobs
+                SET status = 'PENDING', locked_until = NULL, last_error = ?,
+                    next_attempt_at = LOCALTIMESTAMP + make_interval(secs => ?)
+                WHERE id = ?
+                """, error, delay.toMillis() / 1000.0, jobId);
+    }
+
+    public void markFailed(long jobId, String error) {
+        jdbcTemplate.update("""
+                UPDATE notification_jobs SET status = 'FAILED', locked_until = NULL, last_error = ?
+                WHERE id = ?
+                """, error, jobId);
+    }
+
+    public long countPending() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM notification_jobs WHERE status = 'PENDING'", Long.class);
+    }
+
+    /**
+     * {@code attempts} includes the current one; {@code overdue} is the time since the job became due,
+     * so it leaves out the coalescing window and retry backoff the job was meant to wait.
+     */
+    public record ClaimedJob(long id, Notification notification, int attempts, Duration overdue) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.domain.Event;
+import com.calendar.domain.Reminder;
+import com.calendar.domain.ReminderMethod;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Pending reminders. Scheduler nodes claim the ones due soon with {@code FOR UPDATE SKIP LOCKED}, so
+ * each reminder is held by a single node; the claim expires {@code grace} after the reminder is due,
+ * after which another node picks up what a crashed one left behind.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReminderRepository {
+
+    private static final int INSERT_BATCH_SIZE = 50;
+    private static final String INSERT_BEFORE_START = """
+            INSERT INTO reminders (event_id, method, remind_at)
+            SELECT e.id, ?, e.start_time - make_interval(secs => ?)
+            FROM events e
+            WHERE e.id = ? AND e.start_time - make_interval(secs => ?) > LOCALTIMESTAMP
+            """;
+    private static final String CLAIM_DUE = """
+            UPDATE reminders r
+            SET locked_until = GREATEST(r.remind_at, LOCALTIMESTAMP) + make_interval(secs => ?)
+            FROM (
+                SELECT id FROM reminders
+                WHERE remind_at <= LOCALTIMESTAMP + make_interval(secs => ?)
+                  AND (locked_until IS NULL OR locked_until < LOCALTIMESTAMP)
+                ORDER BY remind_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) due, events e
+            WHERE r.id = due.id AND e.id = r.event_id
+            RETURNING r.id, r.method, r.remind_at, e.id AS event_id, e.title, e.start_time, e.end_time,
+                e.organizer_id, EXTRACT(EPOCH FROM (r.remind_at - LOCALTIMESTAMP)) * 1000 AS due_in_millis
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Adds one reminder per offset before the event's start, skipping those already in the past.
+     * Pending JPA writes are flushed first, so a freshly saved event is visible.
+     */
+    public void scheduleBeforeStart(Long eventId, List<Duration> offsets, ReminderMethod method) {
+        entityManager.flush();
+        jdbcTemplate.batchUpdate(INSERT_BEFORE_START, offsets, INSERT_BATCH_SIZE, (ps, offset) -> {
+            ps.setString(1, method.name());
+            ps.setLong(2, offset.toSeconds());
+            ps.setLong(3, eventId);
+            ps.setLong(4, offset.toSeconds());
+        });
+    }
+
+    /**
+     * Claims up to {@code limit} reminders due within {@code horizon}, overdue ones included.
+     */
+    public List<ClaimedReminder> claimDue(Duration horizon, Duration grace, int limit) {
+        return jdbcTemplate.query(CLAIM_DUE, (rs, row) -> new ClaimedReminder(
+                Reminder.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .method(ReminderMethod.valueOf(rs.getString("method")))
+                        .reminderTime(rs.getTimestamp("remind_at").toLocalDateTime())
+                        .event(Event.builder()
+                                .id(rs.getLong("event_id"))
+                                .title(rs.getString("title"))
+                                .startTime(rs.getTimestamp("start_time").toInstant())
+                                .endTime(rs.getTimestamp("end_time").toInstant())
+                                .organizerId(rs.getString("organizer_id"))
+                                .build())
+                        .build(),
+                Duration.ofMillis(rs.getLong("due_in_millis"))),
+                grace.toSeconds(), horizon.toSeconds(), limit);
+    }
+
+    /**
+     * Organizer and every attendee who has not declined, per event.
+     */
+    public Map<Long, Set<String>> findRecipients(Collection<Long> eventIds) {
+        Map<Long, Set<String>> recipients = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT e.id AS event_id, e.organizer_id AS recipient FROM events e WHERE e.id = ANY(?)
+                UNION ALL
+                SELECT a.event_id, a.user_id FROM attendees a
+                WHERE a.event_id = ANY(?) AND a.response_status <> 'DECLINED'
+                """, ps -> {
+            Array ids = ps.getConnection().createArrayOf("bigint", eventIds.toArray());
+            ps.setArray(1, ids);
+            ps.setArray(2, ids);
+        }, (RowCallbackHandler) rs -> recipients
+                .computeIfAbsent(rs.getLong("event_id"), id -> new LinkedHashSet<>())
+                .add(rs.getString("recipient")));
+        return recipients;
+    }
+
+    /**
+     * Deletes the reminders and returns the ids of those that were still there. A reminder another
+     * node has already fired is missing from the result, so only one node ever notifies about it.
+     */
+    public Set<UUID> delete(Collection<UUID> reminderIds) {
+        return new HashSet<>(jdbcTemplate.query("DELETE FROM reminders WHERE id = ANY(?) RETURNING id",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", reminderIds.toArray())),
+                (rs, row) -> rs.getObject("id", UUID.class)));
+    }
+
+    /**
+     * Gives up claims so other nodes can take the reminders right away, e.g. on shutdown.
+     */
+    public void release(Collection<UUID> reminderIds) {
+        jdbcTemplate.update("UPDATE reminders SET locked_until = NULL WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", reminderIds.toArray())));
+    }
+
+    /**
+     * {@code dueIn} is measured on the database clock and is negative for overdue reminders.
+     */
+    public record ClaimedReminder(Reminder reminder, Duration dueIn) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.calendar.infra.provided.search.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the full-text search functions used by the {@code search} operator. Both take two text
+ * columns and the user query.
+ * <p>
+ * On PostgreSQL they compile to a {@code tsvector} match and {@code ts_rank}. The document expression
+ * is exactly the one indexed by {@code idx_events_fts}, so the planner uses the GIN index. Other
+ * databases (H2 in tests) fall back to a case-insensitive substring match; it uses {@code locate}
+ * rather than {@code like} so that {@code %} and {@code _} in the query match literally.
+ */
+public class FullTextFunctions implements FunctionContributor {
+
+    public static final String MATCH = "fts_match";
+    public static final String RANK = "fts_rank";
+    public static final int TEXT_ARGUMENTS = 2;
+
+    private static final String DOCUMENT = "to_tsvector('simple', coalesce(?1, '') || ' ' || coalesce(?2, ''))";
+    private static final String QUERY = "websearch_to_tsquery('simple', ?3)";
+    private static final String CONTAINS_IN_FIRST = "locate(lower(?3), lower(coalesce(?1, ''))) > 0";
+    private static final String CONTAINS_IN_SECOND = "locate(lower(?3), lower(coalesce(?2, ''))) > 0";
+
+    @Override
+    public void contributeFunctions(FunctionContributions contributions) {
+        var registry = contributions.getFunctionRegistry();
+        var types = contributions.getTypeConfiguration().getBasicTypeRegistry();
+        var booleanType = types.resolve(StandardBasicTypes.BOOLEAN);
+        var doubleType = types.resolve(StandardBasicTypes.DOUBLE);
+
+        if (contributions.getDialect() instanceof PostgreSQLDialect) {
+            registry.registerPattern(MATCH, "(" + DOCUMENT + " @@ " + QUERY + ")", booleanType);
+            registry.registerPattern(RANK, "ts_rank(" + DOCUMENT + ", " + QUERY + ")", doubleType);
+        } else {
+            registry.registerPattern(MATCH, "(" + CONTAINS_IN_FIRST + " or " + CONTAINS_IN_SECOND + ")", booleanType);
+            registry.registerPattern(RANK,
+                    "(case when " + CONTAINS_IN_FIRST + " then 2.0 when " + CONTAINS_IN_SECOND + " then 1.0 else 0.0 end)",
+                    doubleType);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.calendar.infra.provided.search.model;
+
+import java.util.List;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
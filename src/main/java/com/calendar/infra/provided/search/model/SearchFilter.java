@@ -13,4 +13,6 @@ public class SearchFilter {
     private List<FilterRequest> filters;
     private PageRequest pageRequest;
     private SortRequest sortRequest;
+    // null selects offset paging, an empty string requests the first keyset page
+    private String cursor;
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.provided.search.model.KeysetCursor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.*;
+
+import java.time.Instant;
+
+/**
+ * Seek predicate equivalent to {@code (start_time, id) > (:startTime, :id)}. The leading
+ * {@code start_time >= :startTime} term keeps it a range scan on {@code idx_events_start_time_id}.
+ */
+@RequiredArgsConstructor
+public class EventKeysetSpecification implements Specification<EventEntity> {
+    private final KeysetCursor cursor;
+    private final Sort.Direction direction;
+
+    @Override
+    public Predicate toPredicate(@NonNull Root<EventEntity> root, CriteriaQuery<?> query, @NonNull CriteriaBuilder cb) {
+        if (cursor == null) {
+            return cb.conjunction();
+        }
+
+        Path<Instant> startTime = root.get("startTime");
+        Path<Long> id = root.get("id");
+
+        if (direction.isAscending()) {
+            return cb.and(
+                    cb.greaterThanOrEqualTo(startTime, cursor.startTime()),
+                    cb.or(
+                            cb.greaterThan(startTime, cursor.startTime()),
+                            cb.greaterThan(id, cursor.id())));
+        }
+
+        return cb.and(
+                cb.lessThanOrEqualTo(startTime, cursor.startTime()),
+                cb.or(
+                        cb.lessThan(startTime, cursor.startTime()),
+                        cb.lessThan(id, cursor.id())));
+    }
+}
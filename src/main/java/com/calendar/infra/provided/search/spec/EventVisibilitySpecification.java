@@ -0,0 +1,34 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.persistence.entity.AttendeeEntity;
+import com.calendar.infra.persistence.entity.EventEntity;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.*;
+
+/**
+ * Restricts events to those the given user organizes or attends. The attendee check is an
+ * EXISTS subquery so the database returns only visible rows and pagination stays exact.
+ */
+@RequiredArgsConstructor
+public class EventVisibilitySpecification implements Specification<EventEntity> {
+    private final String userId;
+
+    @Override
+    public Predicate toPredicate(@NonNull Root<EventEntity> root, CriteriaQuery<?> query, @NonNull CriteriaBuilder cb) {
+        Subquery<Long> attendance = query.subquery(Long.class);
+        Root<AttendeeEntity> attendee = attendance.from(AttendeeEntity.class);
+        attendance.select(attendee.get("id"))
+                .where(
+                        cb.equal(attendee.get("event"), root),
+                        cb.equal(attendee.get("userId"), userId)
+                );
+
+        return cb.or(
+                cb.equal(root.get("organizerId"), userId),
+                cb.exists(attendance)
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.calendar.infra.provided.search.spec;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A searchable attribute resolved against the JPA metamodel, with its value converter bound up front.
+ * Composite fields span several attributes: a {@link Kind#RANGE} field is a (start, end) pair used by
+ * the overlaps operator, a {@link Kind#TEXT} field is the set of columns covered by full-text search.
+ */
+public record SearchField(
+        String name,
+        Kind kind,
+        List<List<String>> paths,
+        Class<?> javaType,
+        Function<String, ?> converter) {
+
+    public enum Kind {
+        VALUE, RANGE, TEXT
+    }
+
+    public <V> Path<V> resolve(Root<?> root) {
+        return resolve(root, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Path<V> resolve(Root<?> root, int index) {
+        Path<?> currentPath = root;
+
+        for (String segment : paths.get(index)) {
+            currentPath = currentPath.get(segment);
+        }
+
+        return (Path<V>) currentPath;
+    }
+
+    public Object convert(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return converter.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for field " + name + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.provided.search.function.FullTextFunctions;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Whitelist of fields clients may filter and sort on. Every field is resolved against the JPA
+ * metamodel once, at startup, so typos in the whitelist fail fast and requests never reflect.
+ */
+public class SearchFieldRegistry<T> {
+
+    private static final Map<Class<?>, Function<String, ?>> VALUE_CONVERTERS = Map.of(
+            Integer.class, Integer::valueOf,
+            Long.class, Long::valueOf,
+            BigDecimal.class, BigDecimal::new,
+            LocalDate.class, LocalDate::parse,
+            LocalDateTime.class, LocalDateTime::parse,
+            Boolean.class, Boolean::parseBoolean,
+            String.class, Function.identity(),
+            Duration.class, value -> Duration.ofSeconds(Long.parseLong(value)),
+            Instant.class, Instant::parse
+    );
+
+    private final ManagedType<T> managedType;
+    private final Map<String, SearchField> fields;
+
+    private SearchFieldRegistry(ManagedType<T> managedType, Map<String, SearchField> fields) {
+        this.managedType = managedType;
+        this.fields = fields;
+    }
+
+    public static <T> SearchFieldRegistry<T> of(Metamodel metamodel, Class<T> entityClass, String... fieldNames) {
+        var managedType = metamodel.managedType(entityClass);
+        var fields = Arrays.stream(fieldNames)
+                .map(name -> resolve(managedType, name))
+                .collect(Collectors.toUnmodifiableMap(SearchField::name, Function.identity()));
+        return new SearchFieldRegistry<>(managedType, fields);
+    }
+
+    /**
+     * Adds a range field named {@code name} spanning two already registered fields of the same type.
+     */
+    public SearchFieldRegistry<T> withRange(String name, String startField, String endField) {
+        var start = get(startField);
+        var end = get(endField);
+        if (!start.javaType().equals(end.javaType())) {
+            throw new IllegalStateException("Range " + name + " mixes " + start.javaType() + " and " + end.javaType());
+        }
+
+        return with(new SearchField(name, SearchField.Kind.RANGE,
+                List.of(start.paths().getFirst(), end.paths().getFirst()), start.javaType(), start.converter()));
+    }
+
+    /**
+     * Adds a full-text field named {@code name} covering the given string attributes. The covered
+     * attributes need not be searchable on their own.
+     */
+    public SearchFieldRegistry<T> withText(String name, String... textFields) {
+        var paths = Arrays.stream(textFields)
+                .map(textField -> resolve(managedType, textField))
+                .peek(field -> {
+                    if (!String.class.equals(field.javaType())) {
+                        throw new IllegalStateException("Text field " + name + " cannot cover " + field.name());
+                    }
+                })
+                .map(field -> field.paths().getFirst())
+                .toList();
+        if (paths.size() > FullTextFunctions.TEXT_ARGUMENTS) {
+            throw new IllegalStateException("Text field " + name + " covers more than " + FullTextFunctions.TEXT_ARGUMENTS + " fields");
+        }
+
+        return with(new SearchField(name, SearchField.Kind.TEXT, paths, String.class, Function.identity()));
+    }
+
+    private SearchFieldRegistry<T> with(SearchField field) {
+        var extended = new HashMap<>(fields);
+        extended.put(field.name(), field);
+        return new SearchFieldRegistry<>(managedType, Map.copyOf(extended));
+    }
+
+    public SearchField get(String name) {
+        var field = fields.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Field is not searchable: " + name);
+        }
+        return field;
+    }
+
+    private static SearchField resolve(ManagedType<?> rootType, String name) {
+        var segments = List.of(name.split("\\."));
+        ManagedType<?> currentType = rootType;
+        Attribute<?, ?> attribute = null;
+
+        for (int i = 0; i < segments.size(); i++) {
+            attribute = currentType.getAttribute(segments.get(i));
+            if (i < segments.size() - 1) {
+                if (!(attribute instanceof SingularAttribute<?, ?> singular)
+                        || !(singular.getType() instanceof ManagedType<?> nextType)) {
+                    throw new IllegalStateException("Cannot navigate through " + segments.get(i) + " in " + name);
+                }
+                currentType = nextType;
+            }
+        }
+
+        var javaType = attribute.getJavaType();
+        return new SearchField(name, SearchField.Kind.VALUE, List.of(segments), javaType, converterFor(javaType, name));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, ?> converterFor(Class<?> javaType, String name) {
+        if (javaType.isEnum()) {
+            return value -> Enum.valueOf((Class<Enum>) javaType, value);
+        }
+
+        var converter = VALUE_CONVERTERS.get(javaType);
+        if (converter == null) {
+            throw new IllegalStateException("Unsupported java type " + javaType + " for field " + name);
+        }
+        return converter;
+    }
+}
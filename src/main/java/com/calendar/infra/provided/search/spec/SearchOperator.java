@@ -0,0 +1,44 @@
+package com.calendar.infra.provided.search.spec;
+
+import java.util.Arrays;
+
+public enum SearchOperator {
+    EQ("eq"),
+    LIKE("like"),
+    GT("gt"),
+    LT("lt"),
+    BETWEEN("between"),
+    IN("in"),
+    OVERLAPS("overlaps"),
+    SEARCH("search");
+
+    private final String code;
+
+    SearchOperator(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static SearchOperator fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(operator -> operator.code.equals(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Operator not supported: " + code));
+    }
+
+    boolean supports(SearchField field) {
+        return switch (field.kind()) {
+            case RANGE -> this == OVERLAPS && Comparable.class.isAssignableFrom(field.javaType());
+            case TEXT -> this == SEARCH;
+            case VALUE -> switch (this) {
+                case EQ, IN -> true;
+                case LIKE -> String.class.equals(field.javaType());
+                case GT, LT, BETWEEN -> Comparable.class.isAssignableFrom(field.javaType());
+                case OVERLAPS, SEARCH -> false;
+            };
+        };
+    }
+}
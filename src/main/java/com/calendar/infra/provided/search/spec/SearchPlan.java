@@ -0,0 +1,173 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.provided.search.function.FullTextFunctions;
+import com.calendar.infra.provided.search.model.FilterRequest;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Field/operator pairs of a filter, validated and bound to their fields. A plan depends only on the
+ * shape of a filter, so it is shared by every request with the same fields and operators; values are
+ * converted per request by {@link #bind(List)} and supplied in the same order.
+ */
+public class SearchPlan<T> {
+
+    private static final int MAX_LIST_VALUES = 100;
+
+    private final List<Criterion> criteria;
+
+    SearchPlan(List<Criterion> criteria) {
+        this.criteria = criteria;
+    }
+
+    public boolean isEmpty() {
+        return criteria.isEmpty();
+    }
+
+    public List<Object> bind(List<FilterRequest> filters) {
+        var values = new ArrayList<>(criteria.size());
+
+        for (int i = 0; i < criteria.size(); i++) {
+            values.add(criteria.get(i).bind(filters.get(i).getValue()));
+        }
+
+        return values;
+    }
+
+    /**
+     * Orders by full-text relevance when the plan contains a search criterion, otherwise empty.
+     */
+    public List<Order> relevanceOrder(Root<T> root, CriteriaBuilder cb, List<Object> values) {
+        var orders = new ArrayList<Order>();
+
+        for (int i = 0; i < criteria.size(); i++) {
+            if (criteria.get(i).operator() == SearchOperator.SEARCH) {
+                orders.add(criteria.get(i).relevanceOrder(root, cb, values.get(i)));
+            }
+        }
+
+        return orders;
+    }
+
+    public Predicate toPredicate(Root<T> root, CriteriaBuilder cb, List<Object> values) {
+        var predicates = new Predicate[criteria.size()];
+
+        for (int i = 0; i < criteria.size(); i++) {
+            predicates[i] = criteria.get(i).toPredicate(root, cb, values.get(i));
+        }
+
+        return cb.and(predicates);
+    }
+
+    record Criterion(SearchField field, SearchOperator operator) {
+
+        Object bind(String rawValue) {
+            if (rawValue == null) {
+                if (operator != SearchOperator.EQ) {
+                    throw new IllegalArgumentException("Operator " + operator.getCode() + " requires a value");
+                }
+                return null;
+            }
+
+            return switch (operator) {
+                case BETWEEN, OVERLAPS -> bindBounds(rawValue);
+                case IN -> bindList(rawValue);
+                case SEARCH -> bindQuery(rawValue);
+                default -> field.convert(rawValue);
+            };
+        }
+
+        private String bindQuery(String rawValue) {
+            // a blank tsquery matches nothing on PostgreSQL but everything in the substring fallback
+            if (rawValue.isBlank()) {
+                throw new IllegalArgumentException("Operator " + operator.getCode() + " requires a non-blank query");
+            }
+            return rawValue.strip();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private List<Object> bindBounds(String rawValue) {
+            var bounds = bindList(rawValue);
+            if (bounds.size() != 2) {
+                throw new IllegalArgumentException(
+                        "Operator " + operator.getCode() + " expects two comma separated values for field " + field.name());
+            }
+            if (((Comparable) bounds.get(0)).compareTo(bounds.get(1)) > 0) {
+                throw new IllegalArgumentException(
+                        "Operator " + operator.getCode() + " expects the lower bound first for field " + field.name());
+            }
+            return bounds;
+        }
+
+        private List<Object> bindList(String rawValue) {
+            if (rawValue.isBlank()) {
+                throw new IllegalArgumentException(
+                        "Operator " + operator.getCode() + " requires at least one value for field " + field.name());
+            }
+            var values = Arrays.stream(rawValue.split(","))
+                    .map(String::trim)
+                    .map(field::convert)
+                    .toList();
+            if (values.size() > MAX_LIST_VALUES) {
+                throw new IllegalArgumentException(
+                        "Operator " + operator.getCode() + " accepts at most " + MAX_LIST_VALUES + " values");
+            }
+            return values;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Predicate toPredicate(Root<?> root, CriteriaBuilder cb, Object value) {
+            Path path = field.resolve(root);
+
+            if (value == null) {
+                return cb.isNull(path);
+            }
+
+            return switch (operator) {
+                case EQ -> cb.equal(path, value);
+                case LIKE -> cb.like((Expression<String>) path, "%" + value + "%");
+                case GT -> cb.greaterThan(path, (Comparable) value);
+                case LT -> cb.lessThan(path, (Comparable) value);
+                case BETWEEN -> {
+                    var bounds = (List<Comparable>) value;
+                    yield cb.between(path, bounds.get(0), bounds.get(1));
+                }
+                case IN -> path.in((List<?>) value);
+                case OVERLAPS -> {
+                    // start < :end AND end > :start keeps both bounds sargable on the composite index
+                    var window = (List<Comparable>) value;
+                    Path end = field.resolve(root, 1);
+                    yield cb.and(
+                            cb.lessThan(path, window.get(1)),
+                            cb.greaterThan(end, window.get(0)));
+                }
+                case SEARCH -> cb.isTrue(textFunction(FullTextFunctions.MATCH, Boolean.class, root, cb, (String) value));
+            };
+        }
+
+        Order relevanceOrder(Root<?> root, CriteriaBuilder cb, Object value) {
+            return cb.desc(textFunction(FullTextFunctions.RANK, Double.class, root, cb, (String) value));
+        }
+
+        private <R> Expression<R> textFunction(
+                String function, Class<R> resultType, Root<?> root, CriteriaBuilder cb, String query) {
+            var arguments = new Expression<?>[FullTextFunctions.TEXT_ARGUMENTS + 1];
+            for (int i = 0; i < FullTextFunctions.TEXT_ARGUMENTS; i++) {
+                arguments[i] = i < field.paths().size() ? field.resolve(root, i) : cb.nullLiteral(String.class);
+            }
+            // value() binds the query as a JDBC parameter; literal() would inline it into the SQL
+            arguments[FullTextFunctions.TEXT_ARGUMENTS] = ((HibernateCriteriaBuilder) cb).value(query);
+            return cb.function(function, resultType, arguments);
+        }
+    }
+}
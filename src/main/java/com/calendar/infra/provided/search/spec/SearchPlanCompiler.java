@@ -0,0 +1,64 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.provided.search.model.FilterRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles filters into {@link SearchPlan}s and caches them by filter shape. Unknown fields and
+ * operators that do not fit a field's type are rejected here, before any query is built.
+ */
+public class SearchPlanCompiler<T> {
+
+    private static final int MAX_CACHED_PLANS = 256;
+
+    private final SearchFieldRegistry<T> registry;
+    private final Map<String, SearchPlan<T>> plans = new ConcurrentHashMap<>();
+
+    public SearchPlanCompiler(SearchFieldRegistry<T> registry) {
+        this.registry = registry;
+    }
+
+    public SearchPlan<T> compile(List<FilterRequest> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return new SearchPlan<>(List.of());
+        }
+
+        var shape = filters.stream()
+                .map(filter -> filter.getField() + ":" + filter.getOperator())
+                .collect(Collectors.joining(","));
+
+        var plan = plans.get(shape);
+        if (plan != null) {
+            return plan;
+        }
+
+        plan = doCompile(filters);
+        if (plans.size() < MAX_CACHED_PLANS) {
+            plans.putIfAbsent(shape, plan);
+        }
+        return plan;
+    }
+
+    public SearchField field(String name) {
+        return registry.get(name);
+    }
+
+    private SearchPlan<T> doCompile(List<FilterRequest> filters) {
+        var criteria = filters.stream()
+                .map(filter -> {
+                    var field = registry.get(filter.getField());
+                    var operator = SearchOperator.fromCode(filter.getOperator());
+                    if (!operator.supports(field)) {
+                        throw new IllegalArgumentException(
+                                "Operator " + operator.getCode() + " cannot be applied to field " + field.name());
+                    }
+                    return new SearchPlan.Criterion(field, operator);
+                })
+                .toList();
+        return new SearchPlan<>(criteria);
+    }
+}
@@ -8,10 +8,14 @@ import org.springframework.data.jpa.domain.Specification;
 
 @RequiredArgsConstructor
 public class SearchSpecificationBuilder<T> {
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final SearchPlanCompiler<T> searchPlanCompiler;
     private final SearchFilter searchFilter;
 
     public Specification<T> buildSpecification() {
-        return new SearchSpecification<>(searchFilter);
+        return new SearchSpecification<>(searchPlanCompiler.compile(searchFilter.getFilters()), searchFilter);
     }
 
     public PageRequest buildPageRequest() {
@@ -19,17 +23,40 @@ public class SearchSpecificationBuilder<T> {
 
         if (searchFilter.getSortRequest() != null) {
             Sort.Direction direction = Sort.Direction.fromString(searchFilter.getSortRequest().getDirection());
-            sort = Sort.by(direction, searchFilter.getSortRequest().getField());
+            var field = searchPlanCompiler.field(searchFilter.getSortRequest().getField());
+            if (field.kind() != SearchField.Kind.VALUE) {
+                // range and text fields span several columns and have no single sort key
+                throw new IllegalArgumentException("Field cannot be used for sorting: " + field.name());
+            }
+            sort = Sort.by(direction, field.name());
         }
 
         if (searchFilter.getPageRequest() == null) {
-            return PageRequest.of(0, 10, sort);
+            return PageRequest.of(0, DEFAULT_PAGE_SIZE, sort);
         }
 
         return PageRequest.of(
                 searchFilter.getPageRequest().getPage(),
-                searchFilter.getPageRequest().getSize(),
+                buildPageSize(),
                 sort
         );
     }
+
+    public int buildPageSize() {
+        if (searchFilter.getPageRequest() == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        int size = searchFilter.getPageRequest().getSize();
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    public Sort.Direction buildSortDirection() {
+        if (searchFilter.getSortRequest() == null || searchFilter.getSortRequest().getDirection() == null) {
+            return Sort.Direction.ASC;
+        }
+        return Sort.Direction.fromString(searchFilter.getSortRequest().getDirection());
+    }
 }
\ No newline at end of file
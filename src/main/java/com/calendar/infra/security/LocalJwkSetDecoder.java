@@ -0,0 +1,64 @@
+package com.calendar.infra.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a decoder that verifies signatures against a JWK set read from a local file, so startup does
+ * not depend on reaching the identity provider. Tokens must still carry the configured issuer.
+ */
+public final class LocalJwkSetDecoder {
+
+    private LocalJwkSetDecoder() {
+    }
+
+    public static JwtDecoder create(Resource jwkSetFile, String issuer) {
+        JWKSet jwkSet = load(jwkSetFile);
+
+        Set<JWSAlgorithm> algorithms = jwkSet.getKeys().stream()
+                .map(JWK::getAlgorithm)
+                .filter(Objects::nonNull)
+                .map(algorithm -> JWSAlgorithm.parse(algorithm.getName()))
+                .collect(Collectors.toSet());
+        if (algorithms.isEmpty()) {
+            algorithms = Set.of(JWSAlgorithm.RS256);
+        }
+
+        var processor = new DefaultJWTProcessor<SecurityContext>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, new ImmutableJWKSet<>(jwkSet)));
+        // claims are checked by the Spring validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        var decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
+
+    private static JWKSet load(Resource jwkSetFile) {
+        try (InputStream inputStream = jwkSetFile.getInputStream()) {
+            return JWKSet.load(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read JWK set from " + jwkSetFile, e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JWK set in " + jwkSetFile, e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -42,9 +43,15 @@ public class CalendarController {
 
     @GetMapping
     public ResponseEntity<List<Calendar>> getUserCalendars(
-            @AuthenticationPrincipal Jwt jwt) {
-        return ResponseEntity.ok(
-                calendarUseCase.getUserCalendars(jwt.getSubject()));
+            @AuthenticationPrincipal Jwt jwt,
+            WebRequest request) {
+        String eTag = "W/\"" + calendarUseCase.getUserCalendarsVersion(jwt.getSubject()) + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(calendarUseCase.getUserCalendars(jwt.getSubject()));
     }
 
     @PutMapping("/{calendarId}")
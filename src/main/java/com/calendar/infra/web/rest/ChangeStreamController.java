@@ -0,0 +1,28 @@
+package com.calendar.infra.web.rest;
+
+import com.calendar.infra.web.sse.ChangeStreamHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeStreamController {
+
+    private final ChangeStreamHub changeStreamHub;
+
+    /**
+     * Streams "change" events for calendars and events the caller can see. A "resync" event means
+     * changes were dropped and the client should catch up through the sync API.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@AuthenticationPrincipal Jwt jwt) {
+        return changeStreamHub.subscribe(jwt.getSubject());
+    }
+}
@@ -1,18 +1,38 @@
 package com.calendar.infra.web.rest;
 
 import com.calendar.app.command.AttendeeCommand;
+import com.calendar.app.command.BulkResponseCommand;
 import com.calendar.app.command.EventCommand;
+import com.calendar.app.command.SlotCheckCommand;
 import com.calendar.app.port.in.EventUseCase;
 import com.calendar.domain.Event;
+import com.calendar.domain.EventChanges;
+import com.calendar.domain.EventExport;
+import com.calendar.domain.EventResponseOutcome;
 import com.calendar.domain.ResponseStatus;
+import com.calendar.domain.SlotConflict;
+import com.calendar.infra.provided.search.model.CursorPage;
 import com.calendar.infra.provided.search.model.SearchFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -20,14 +40,73 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final EventUseCase eventService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${calendar.events.export.timeout:5m}")
+    private Duration exportTimeout;
 
     @PostMapping("/search")
     public ResponseEntity<List<Event>> getEvents(
             @RequestBody SearchFilter filter,
             @AuthenticationPrincipal Jwt jwt
     ) {
-        return ResponseEntity.ok(eventService.getEvents(filter, jwt));
+        if (filter.getCursor() == null) {
+            return ResponseEntity.ok(eventService.getEvents(filter, jwt));
+        }
+
+        CursorPage<Event> page = eventService.scrollEvents(filter, jwt);
+        var response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    @GetMapping("/agenda")
+    public ResponseEntity<List<Event>> getAgenda(
+            @RequestParam Instant from,
+            @RequestParam Instant to,
+            @RequestParam(defaultValue = "100") int limit,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        return ResponseEntity.ok(eventService.getAgenda(from, to, limit, jwt));
+    }
+
+    @GetMapping("/sync")
+    public ResponseEntity<EventChanges> syncEvents(
+            @RequestParam Long calendarId,
+            @RequestParam(required = false) String syncToken,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        return ResponseEntity.ok(eventService.syncEvents(calendarId, syncToken, jwt));
+    }
+
+    /**
+     * The filter is validated before the response is committed, so a bad one still gets a 400. The
+     * export then streams for at most {@code exportTimeout}, which also bounds how long it holds its
+     * database connection.
+     */
+    @PostMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestBody SearchFilter filter,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request
+    ) {
+        EventExport export = eventService.prepareExport(filter, jwt);
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
+        long deadline = System.nanoTime() + exportTimeout.toNanos();
+        StreamingResponseBody body = outputStream -> eventService.exportEvents(export, event -> {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AsyncRequestTimeoutException();
+            }
+            writeLine(outputStream, event);
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PostMapping
@@ -38,6 +117,14 @@ public class EventController {
         return ResponseEntity.ok(eventService.createEvent(command, jwt));
     }
 
+    @PostMapping("/conflicts")
+    public ResponseEntity<List<SlotConflict>> checkSlots(
+            @Valid @RequestBody SlotCheckCommand command,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        return ResponseEntity.ok(eventService.checkSlots(command, jwt));
+    }
+
     @PostMapping("/{eventId}/attendees")
     public ResponseEntity<Void> addAttendees(
             @PathVariable Long eventId,
@@ -68,11 +155,35 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/responses")
+    public ResponseEntity<List<EventResponseOutcome>> respondToEvents(
+            @Valid @RequestBody BulkResponseCommand command,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        return ResponseEntity.ok(eventService.respondToEvents(command, jwt));
+    }
+
     @GetMapping("/{eventId}")
     public ResponseEntity<Event> getEventDetails(
             @PathVariable Long eventId,
-            @AuthenticationPrincipal Jwt jwt
+            @AuthenticationPrincipal Jwt jwt,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(eventService.getEventDetails(eventId, jwt));
+        String eTag = "W/\"" + eventService.getEventVersion(eventId, jwt) + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(eventService.getEventDetails(eventId, jwt));
+    }
+
+    private void writeLine(OutputStream outputStream, Event event) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(event));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.calendar.infra.web.rest;
+
+import com.calendar.app.command.FreeBusyCommand;
+import com.calendar.app.command.MeetingSuggestionCommand;
+import com.calendar.app.port.in.FreeBusyUseCase;
+import com.calendar.domain.FreeBusy;
+import com.calendar.domain.MeetingSuggestion;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/freebusy")
+@RequiredArgsConstructor
+public class FreeBusyController {
+
+    private final FreeBusyUseCase freeBusyService;
+
+    @PostMapping
+    public ResponseEntity<List<FreeBusy>> getFreeBusy(
+            @Valid @RequestBody FreeBusyCommand command,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        return ResponseEntity.ok(freeBusyService.getFreeBusy(command, jwt.getSubject()));
+    }
+
+    @PostMapping("/suggestions")
+    public ResponseEntity<List<MeetingSuggestion>> suggestMeetingTimes(
+            @Valid @RequestBody MeetingSuggestionCommand command,
+            @AuthenticationPrincipal Jwt jwt
+    ) {
+        return ResponseEntity.ok(freeBusyService.suggestMeetingTimes(command, jwt.getSubject()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.calendar.infra.web.sse;
+
+import com.calendar.domain.CalendarChange;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository.OutboxBatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tails the change outbox and hands new rows to the local {@link ChangeStreamHub}. Every instance
+ * tails the whole outbox on its own, so rows are never claimed; they are purged after a retention
+ * period instead.
+ */
+@Slf4j
+@Component
+public class ChangeOutboxRelay {
+
+    private final ChangeOutboxRepository outbox;
+    private final ChangeStreamHub hub;
+    private final boolean enabled;
+    private final Duration retention;
+
+    private long position = -1;
+    private Set<Long> pendingIds = Set.of();
+
+    public ChangeOutboxRelay(
+            ChangeOutboxRepository outbox,
+            ChangeStreamHub hub,
+            @Value("${calendar.changes.relay.enabled:true}") boolean enabled,
+            @Value("${calendar.changes.outbox.retention:10m}") Duration retention) {
+        this.outbox = outbox;
+        this.hub = hub;
+        this.enabled = enabled;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.changes.relay.poll-interval-ms:250}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        if (position < 0 || !hub.hasSubscribers()) {
+            // nobody to deliver to: only keep up with the outbox
+            position = outbox.currentPosition();
+            pendingIds = Set.of();
+            return;
+        }
+
+        OutboxBatch batch = outbox.readSince(position);
+        List<CalendarChange> fresh = batch.changes().stream()
+                .filter(change -> !pendingIds.contains(change.id()))
+                .toList();
+        hub.publish(fresh);
+        position = batch.position();
+        pendingIds = batch.pendingIds();
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.changes.outbox.purge-interval-ms:60000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        int purged = outbox.deleteOlderThan(retention);
+        if (purged > 0) {
+            log.debug("Purged {} change outbox rows", purged);
+        }
+    }
+}
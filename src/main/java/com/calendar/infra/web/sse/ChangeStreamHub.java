@@ -0,0 +1,91 @@
+package com.calendar.infra.web.sse;
+
+import com.calendar.domain.CalendarChange;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local SSE subscriptions by user. Each subscriber is drained on its own virtual thread; a user keeps
+ * at most {@code maxPerUser} streams, the oldest one is closed when another is opened.
+ */
+@Component
+public class ChangeStreamHub {
+
+    private final Map<String, List<ChangeSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final int maxPerUser;
+    private final Duration heartbeat;
+    private final Duration timeout;
+
+    public ChangeStreamHub(
+            @Value("${calendar.changes.stream.buffer-size:256}") int bufferSize,
+            @Value("${calendar.changes.stream.max-per-user:5}") int maxPerUser,
+            @Value("${calendar.changes.stream.heartbeat:20s}") Duration heartbeat,
+            @Value("${calendar.changes.stream.timeout:30m}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+    }
+
+    public SseEmitter subscribe(String userId) {
+        var subscriber = new ChangeSubscriber(new SseEmitter(timeout.toMillis()), bufferSize, heartbeat);
+        List<ChangeSubscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, current) -> {
+            List<ChangeSubscriber> next = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            while (next.size() >= maxPerUser) {
+                evicted.add(next.removeFirst());
+            }
+            next.add(subscriber);
+            return List.copyOf(next);
+        });
+        evicted.forEach(old -> old.emitter().complete());
+
+        SseEmitter emitter = subscriber.emitter();
+        emitter.onCompletion(() -> unsubscribe(userId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(userId, subscriber));
+        emitter.onError(e -> unsubscribe(userId, subscriber));
+        senders.execute(subscriber::run);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public void publish(List<CalendarChange> changes) {
+        for (CalendarChange change : changes) {
+            List<ChangeSubscriber> targets = subscribers.get(change.userId());
+            if (targets != null) {
+                targets.forEach(subscriber -> subscriber.offer(change));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(list -> list.forEach(subscriber -> subscriber.emitter().complete()));
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private void unsubscribe(String userId, ChangeSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(userId, (id, current) -> {
+            List<ChangeSubscriber> next = new ArrayList<>(current);
+            next.remove(subscriber);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+    }
+}
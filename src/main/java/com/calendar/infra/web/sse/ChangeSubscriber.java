@@ -0,0 +1,75 @@
+package com.calendar.infra.web.sse;
+
+import com.calendar.domain.CalendarChange;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE connection. The relay only ever offers into the bounded buffer, so a slow client never holds
+ * it up; when the buffer overflows the pending changes are dropped and the client is told to resync
+ * instead. A dedicated thread drains the buffer into the emitter and sends keepalives while idle.
+ */
+final class ChangeSubscriber {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<CalendarChange> buffer;
+    private final Duration heartbeat;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private volatile boolean closed;
+
+    ChangeSubscriber(SseEmitter emitter, int bufferSize, Duration heartbeat) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.heartbeat = heartbeat;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    void offer(CalendarChange change) {
+        if (!buffer.offer(change)) {
+            overflowed.set(true);
+        }
+    }
+
+    void run() {
+        try {
+            while (!closed) {
+                sendNext();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        } finally {
+            closed = true;
+        }
+    }
+
+    void sendNext() throws InterruptedException, IOException {
+        CalendarChange change = buffer.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        if (overflowed.getAndSet(false)) {
+            buffer.clear();
+            emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+        } else if (change == null) {
+            emitter.send(SseEmitter.event().comment("keepalive"));
+        } else {
+            emitter.send(SseEmitter.event().id(String.valueOf(change.id())).name(CHANGE_EVENT).data(change));
+        }
+    }
+
+    void close() {
+        closed = true;
+    }
+}
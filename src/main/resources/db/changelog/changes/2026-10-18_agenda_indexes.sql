@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_attendees_user_event ON attendees(user_id, event_id);
+CREATE INDEX IF NOT EXISTS idx_events_organizer_start ON events(organizer_id, start_time);
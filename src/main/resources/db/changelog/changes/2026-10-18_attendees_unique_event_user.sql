@@ -0,0 +1,8 @@
+-- Retried invitations could create the same attendee twice; keep the oldest row.
+DELETE FROM attendees a
+    USING attendees b
+    WHERE a.event_id = b.event_id
+      AND a.user_id = b.user_id
+      AND a.id > b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_attendees_event_user ON attendees (event_id, user_id);
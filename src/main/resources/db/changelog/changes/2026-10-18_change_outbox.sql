@@ -0,0 +1,14 @@
+-- One row per recipient, written in the transaction of the change itself. change_seq is the writing
+-- transaction id, so relays can tail the table with snapshot positions like the sync API does.
+CREATE TABLE IF NOT EXISTS change_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    calendar_id BIGINT,
+    event_id BIGINT,
+    change_type VARCHAR(50) NOT NULL,
+    change_seq BIGINT NOT NULL DEFAULT pg_current_xact_id()::text::bigint,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_change_outbox_change_seq ON change_outbox(change_seq);
+CREATE INDEX IF NOT EXISTS idx_change_outbox_created_at ON change_outbox(created_at);
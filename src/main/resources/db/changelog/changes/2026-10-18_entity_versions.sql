@@ -0,0 +1,4 @@
+ALTER TABLE calendars ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+UPDATE events SET version = 0 WHERE version IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_calendars_owner_version ON calendars(owner_id, id, version);
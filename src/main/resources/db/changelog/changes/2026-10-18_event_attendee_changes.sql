@@ -0,0 +1,57 @@
+-- Attendee writes used to stamp change_seq on the parent events row, so every RSVP and attendee
+-- insert took a row lock on its event. They now append to event_attendee_changes instead, which
+-- takes no lock on events; a sync reads an event as changed when either source has a newer stamp.
+CREATE TABLE IF NOT EXISTS event_attendee_changes (
+    event_id BIGINT NOT NULL,
+    calendar_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    changed_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+CREATE INDEX IF NOT EXISTS idx_event_attendee_changes_calendar_change_seq
+    ON event_attendee_changes(calendar_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_event_attendee_changes_changed_at ON event_attendee_changes(changed_at);
+CREATE INDEX IF NOT EXISTS idx_event_tombstones_deleted_at ON event_tombstones(deleted_at);
+
+-- Tombstones and attendee changes are purged after a retention period. purged_before is one past
+-- the highest change_seq purged so far: a sync token below it may have missed a purged change and
+-- requires a full resync.
+CREATE TABLE IF NOT EXISTS event_change_horizon (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    purged_before BIGINT NOT NULL
+);
+INSERT INTO event_change_horizon (id, purged_before) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
+
+-- Statement-level, so a batch of attendee writes records each event once. Events deleted in the
+-- same statement have no row to join and are covered by their tombstone.
+CREATE OR REPLACE FUNCTION attendees_record_change() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO event_attendee_changes (event_id, calendar_id, change_seq)
+    SELECT e.id, e.calendar_id, pg_current_xact_id()::text::bigint
+    FROM events e
+    WHERE e.id IN (SELECT DISTINCT event_id FROM changed);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_attendees_insert_touch_events ON attendees;
+DROP TRIGGER IF EXISTS trg_attendees_update_touch_events ON attendees;
+DROP TRIGGER IF EXISTS trg_attendees_delete_touch_events ON attendees;
+DROP FUNCTION IF EXISTS attendees_touch_events();
+
+DROP TRIGGER IF EXISTS trg_attendees_insert_record_change ON attendees;
+CREATE TRIGGER trg_attendees_insert_record_change
+    AFTER INSERT ON attendees
+    REFERENCING NEW TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION attendees_record_change();
+
+DROP TRIGGER IF EXISTS trg_attendees_update_record_change ON attendees;
+CREATE TRIGGER trg_attendees_update_record_change
+    AFTER UPDATE ON attendees
+    REFERENCING NEW TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION attendees_record_change();
+
+DROP TRIGGER IF EXISTS trg_attendees_delete_record_change ON attendees;
+CREATE TRIGGER trg_attendees_delete_record_change
+    AFTER DELETE ON attendees
+    REFERENCING OLD TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION attendees_record_change();
@@ -0,0 +1,67 @@
+-- Every write to an event, or to one of its attendees, stamps the event with the id of the writing
+-- transaction. A sync token is the oldest transaction still running when the previous sync read its
+-- snapshot, so "change_seq >= token" covers every change that sync could not see yet.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_events_calendar_change_seq ON events(calendar_id, change_seq);
+
+CREATE TABLE IF NOT EXISTS event_tombstones (
+    event_id BIGINT PRIMARY KEY,
+    calendar_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+CREATE INDEX IF NOT EXISTS idx_event_tombstones_calendar_change_seq ON event_tombstones(calendar_id, change_seq);
+
+CREATE OR REPLACE FUNCTION events_stamp_change() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION events_record_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO event_tombstones (event_id, calendar_id, change_seq)
+    SELECT id, calendar_id, pg_current_xact_id()::text::bigint FROM deleted
+    ON CONFLICT (event_id) DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = NOW();
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Statement-level, so a batch of attendee writes touches each event once.
+CREATE OR REPLACE FUNCTION attendees_touch_events() RETURNS trigger AS $$
+BEGIN
+    UPDATE events SET change_seq = pg_current_xact_id()::text::bigint
+    WHERE id IN (SELECT DISTINCT event_id FROM changed);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_events_stamp_change ON events;
+CREATE TRIGGER trg_events_stamp_change
+    BEFORE INSERT OR UPDATE ON events
+    FOR EACH ROW EXECUTE FUNCTION events_stamp_change();
+
+DROP TRIGGER IF EXISTS trg_events_tombstone ON events;
+CREATE TRIGGER trg_events_tombstone
+    AFTER DELETE ON events
+    REFERENCING OLD TABLE AS deleted
+    FOR EACH STATEMENT EXECUTE FUNCTION events_record_tombstone();
+
+DROP TRIGGER IF EXISTS trg_attendees_insert_touch_events ON attendees;
+CREATE TRIGGER trg_attendees_insert_touch_events
+    AFTER INSERT ON attendees
+    REFERENCING NEW TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION attendees_touch_events();
+
+DROP TRIGGER IF EXISTS trg_attendees_update_touch_events ON attendees;
+CREATE TRIGGER trg_attendees_update_touch_events
+    AFTER UPDATE ON attendees
+    REFERENCING NEW TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION attendees_touch_events();
+
+DROP TRIGGER IF EXISTS trg_attendees_delete_touch_events ON attendees;
+CREATE TRIGGER trg_attendees_delete_touch_events
+    AFTER DELETE ON attendees
+    REFERENCING OLD TABLE AS changed
+    FOR EACH STATEMENT EXECUTE FUNCTION attendees_touch_events();
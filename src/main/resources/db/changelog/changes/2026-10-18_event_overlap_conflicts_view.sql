@@ -0,0 +1,14 @@
+-- Events that would violate ex_events_calendar_no_overlap: each row is an event starting less than
+-- EventService.CONFLICT_BUFFER (1 hour) after an earlier event of the same calendar ends. The
+-- constraint is only added once this view is empty; cancel or move the listed events to unblock it.
+CREATE OR REPLACE VIEW event_overlap_conflicts AS
+SELECT calendar_id, id AS event_id, start_time, previous_end_time
+FROM (
+    SELECT calendar_id, id, start_time,
+           max(end_time) OVER (
+               PARTITION BY calendar_id ORDER BY start_time, id
+               ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING) AS previous_end_time
+    FROM events
+    WHERE status <> 'CANCELLED'
+) ordered
+WHERE start_time - INTERVAL '1 hour' <= previous_end_time;
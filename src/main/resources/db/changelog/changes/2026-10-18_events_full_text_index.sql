@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_events_fts ON events
+    USING GIN (to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, '')));
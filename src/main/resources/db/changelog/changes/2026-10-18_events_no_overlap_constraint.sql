@@ -0,0 +1,16 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Two events conflict when they come closer than EventService.CONFLICT_BUFFER (1 hour).
+-- Widening both ranges by half of it on each side turns that rule into a plain range overlap.
+--
+-- Once added, the constraint is enforced on every PostgreSQL deployment.
+-- calendar.conflicts.exclusion-constraint.enabled only decides whether EventService also runs
+-- its own conflict query before inserting.
+-- PostgreSQL cannot add an EXCLUDE constraint as NOT VALID, so the changeset's precondition
+-- postpones it while event_overlap_conflicts lists existing overlaps.
+ALTER TABLE events
+    ADD CONSTRAINT ex_events_calendar_no_overlap
+    EXCLUDE USING gist (
+        calendar_id WITH =,
+        tsrange(start_time - INTERVAL '30 minutes', end_time + INTERVAL '30 minutes', '[]') WITH &&
+    ) WHERE (status <> 'CANCELLED');
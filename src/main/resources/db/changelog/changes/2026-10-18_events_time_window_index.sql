@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_events_calendar_start_end ON events(calendar_id, start_time, end_time);
@@ -0,0 +1,5 @@
+ALTER TABLE notification_jobs ADD COLUMN IF NOT EXISTS event_id BIGINT;
+
+-- Looks up the open coalescing window of a recipient and event when a change notification is enqueued.
+CREATE INDEX IF NOT EXISTS idx_notification_jobs_coalescing
+    ON notification_jobs(recipient, event_id, next_attempt_at) WHERE status = 'PENDING' AND event_id IS NOT NULL;
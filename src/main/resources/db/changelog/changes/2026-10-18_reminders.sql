@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS reminders (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    event_id INT NOT NULL,
+    method VARCHAR(50) NOT NULL,
+    remind_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    -- set while a scheduler node holds the reminder in memory; it is free to claim again afterwards
+    locked_until TIMESTAMP WITHOUT TIME ZONE,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT LOCALTIMESTAMP,
+    CONSTRAINT fk_reminders_event FOREIGN KEY (event_id) REFERENCES events(id) ON DELETE CASCADE
+);
+
+-- Fired reminders are deleted, so this only covers the pending ones.
+CREATE INDEX IF NOT EXISTS idx_reminders_remind_at ON reminders(remind_at);
+CREATE INDEX IF NOT EXISTS idx_reminders_event_id ON reminders(event_id);
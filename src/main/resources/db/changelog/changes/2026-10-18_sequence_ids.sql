@@ -0,0 +1,7 @@
+-- Hibernate's pooled optimizer reserves ids (value - 49 .. value) for each value it reads,
+-- so the first value handed out must lie 50 above the current maximum.
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+SELECT setval('events_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM events), false);
+
+CREATE SEQUENCE IF NOT EXISTS attendees_seq INCREMENT BY 50;
+SELECT setval('attendees_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM attendees), false);
@@ -0,0 +1,63 @@
+package com.calendar.app.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusyIntervalMergerTest {
+
+    @Test
+    void merge_ShouldJoinOverlappingAndTouchingIntervals() {
+        // Arrange
+        BusyIntervalMerger merger = new BusyIntervalMerger();
+        merger.add(50, 60);
+        merger.add(10, 20);
+        merger.add(15, 30);
+        merger.add(30, 40);
+        merger.add(12, 14);
+
+        // Act
+        long[] blocks = merger.merge(0, 100);
+
+        // Assert
+        assertArrayEquals(new long[]{10, 40, 50, 60}, blocks);
+    }
+
+    @Test
+    void merge_ShouldClipBlocksToWindow() {
+        // Arrange
+        BusyIntervalMerger merger = new BusyIntervalMerger();
+        merger.add(0, 20);
+        merger.add(40, 60);
+        merger.add(90, 120);
+
+        // Act
+        long[] blocks = merger.merge(10, 50);
+
+        // Assert
+        assertArrayEquals(new long[]{10, 20, 40, 50}, blocks);
+    }
+
+    @Test
+    void merge_ShouldGrowBeyondInitialCapacityAndIgnoreEmptyIntervals() {
+        // Arrange
+        BusyIntervalMerger merger = new BusyIntervalMerger();
+        for (int i = 0; i < 100; i++) {
+            merger.add(i * 10L, i * 10L + 5);
+        }
+        merger.add(70, 70);
+
+        // Act
+        long[] blocks = merger.merge(0, Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(200, blocks.length);
+        assertEquals(990, blocks[198]);
+        assertEquals(995, blocks[199]);
+    }
+
+    @Test
+    void merge_ShouldReturnEmptyWhenNothingAdded() {
+        assertEquals(0, new BusyIntervalMerger().merge(0, 100).length);
+    }
+}
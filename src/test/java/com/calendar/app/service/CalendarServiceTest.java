@@ -3,13 +3,17 @@ package com.calendar.app.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.calendar.domain.Calendar;
+import com.calendar.domain.CalendarListVersion;
+import com.calendar.domain.ChangeType;
 import com.calendar.domain.exception.NotFoundException;
 import com.calendar.domain.exception.UnauthorizedAccessException;
 import com.calendar.infra.persistence.repository.CalendarRepository;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository;
 import com.calendar.infra.web.rest.dto.CalendarRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,6 +30,9 @@ class CalendarServiceTest {
     @Mock
     private CalendarRepository calendarRepository;
 
+    @Mock
+    private ChangeOutboxRepository changeOutbox;
+
     @InjectMocks
     private CalendarService calendarService;
 
@@ -114,11 +121,33 @@ class CalendarServiceTest {
         verify(calendarRepository, times(1)).findAllByOwnerId(OWNER_ID);
     }
 
+    @Test
+    void getUserCalendarsVersion_ShouldReturnAggregateTag() {
+        // Given
+        when(calendarRepository.findListVersionByOwnerId(OWNER_ID)).thenReturn(new CalendarListVersion(2L, 7L, 5L));
+
+        // When
+        String result = calendarService.getUserCalendarsVersion(OWNER_ID);
+
+        // Then
+        assertEquals("2-7-5", result);
+        verify(calendarRepository, never()).findAllByOwnerId(any());
+    }
+
+    @Test
+    void getUserCalendarsVersion_ShouldHandleOwnerWithoutCalendars() {
+        // Given
+        when(calendarRepository.findListVersionByOwnerId(OWNER_ID)).thenReturn(new CalendarListVersion(0L, null, null));
+
+        // When & Then
+        assertEquals("0-0-0", calendarService.getUserCalendarsVersion(OWNER_ID));
+    }
+
     @Test
     void updateCalendar_ShouldUpdateAndReturnCalendar_WhenUserIsOwner() {
         // Given
         CalendarRequest updateRequest = new CalendarRequest("Updated Name", "Updated Description");
-        when(calendarRepository.findById(CALENDAR_ID)).thenReturn(Optional.of(sampleCalendar));
+        when(calendarRepository.findByIdForWrite(CALENDAR_ID)).thenReturn(Optional.of(sampleCalendar));
         when(calendarRepository.save(any(Calendar.class))).thenReturn(sampleCalendar);
 
         // When
@@ -128,20 +157,21 @@ class CalendarServiceTest {
         assertNotNull(result);
         assertEquals(updateRequest.getName(), result.getName());
         assertEquals(updateRequest.getDescription(), result.getDescription());
-        verify(calendarRepository, times(1)).findById(CALENDAR_ID);
+        verify(calendarRepository, times(1)).findByIdForWrite(CALENDAR_ID);
         verify(calendarRepository, times(1)).save(sampleCalendar);
+        verify(calendarRepository, never()).findById(any());
     }
 
     @Test
     void updateCalendar_ShouldThrowNotFoundException_WhenCalendarDoesNotExist() {
         // Given
         CalendarRequest updateRequest = new CalendarRequest("Updated Name", "Updated Description");
-        when(calendarRepository.findById(CALENDAR_ID)).thenReturn(Optional.empty());
+        when(calendarRepository.findByIdForWrite(CALENDAR_ID)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(NotFoundException.class,
                 () -> calendarService.updateCalendar(CALENDAR_ID, updateRequest, OWNER_ID));
-        verify(calendarRepository, times(1)).findById(CALENDAR_ID);
+        verify(calendarRepository, times(1)).findByIdForWrite(CALENDAR_ID);
         verify(calendarRepository, never()).save(any());
     }
 
@@ -149,12 +179,12 @@ class CalendarServiceTest {
     void updateCalendar_ShouldThrowUnauthorizedAccessException_WhenUserIsNotOwner() {
         // Given
         CalendarRequest updateRequest = new CalendarRequest("Updated Name", "Updated Description");
-        when(calendarRepository.findById(CALENDAR_ID)).thenReturn(Optional.of(sampleCalendar));
+        when(calendarRepository.findByIdForWrite(CALENDAR_ID)).thenReturn(Optional.of(sampleCalendar));
 
         // When & Then
         assertThrows(UnauthorizedAccessException.class,
                 () -> calendarService.updateCalendar(CALENDAR_ID, updateRequest, OTHER_USER_ID));
-        verify(calendarRepository, times(1)).findById(CALENDAR_ID);
+        verify(calendarRepository, times(1)).findByIdForWrite(CALENDAR_ID);
         verify(calendarRepository, never()).save(any());
     }
 
@@ -169,7 +199,10 @@ class CalendarServiceTest {
 
         // Then
         verify(calendarRepository, times(1)).findById(CALENDAR_ID);
-        verify(calendarRepository, times(1)).deleteById(CALENDAR_ID);
+        InOrder inOrder = inOrder(changeOutbox, calendarRepository);
+        inOrder.verify(changeOutbox).appendForCalendarEvents(CALENDAR_ID, OWNER_ID, ChangeType.EVENT_REMOVED);
+        inOrder.verify(calendarRepository, times(1)).deleteById(CALENDAR_ID);
+        inOrder.verify(changeOutbox).appendForUsers(List.of(OWNER_ID), CALENDAR_ID, null, ChangeType.CALENDAR_DELETED);
     }
 
     @Test
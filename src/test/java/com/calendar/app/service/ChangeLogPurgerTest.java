@@ -0,0 +1,41 @@
+package com.calendar.app.service;
+
+import com.calendar.infra.persistence.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeLogPurgerTest {
+
+    private static final Duration RETENTION = Duration.ofDays(30);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Test
+    void purge_ShouldDropChangesOlderThanRetention() {
+        // Arrange
+        when(eventRepository.purgeChangeLog(RETENTION)).thenReturn(3L);
+
+        // Act
+        new ChangeLogPurger(eventRepository, true, RETENTION).purge();
+
+        // Assert
+        verify(eventRepository).purgeChangeLog(RETENTION);
+    }
+
+    @Test
+    void purge_ShouldDoNothingWhenDisabled() {
+        // Act
+        new ChangeLogPurger(eventRepository, false, RETENTION).purge();
+
+        // Assert
+        verifyNoInteractions(eventRepository);
+    }
+}
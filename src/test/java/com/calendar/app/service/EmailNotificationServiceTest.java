@@ -0,0 +1,115 @@
+package com.calendar.app.service;
+
+import com.calendar.domain.Notification;
+import com.calendar.domain.ReminderMethod;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailNotificationServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private CountingMailSender mailSender;
+    private EmailNotificationService emailNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new CountingMailSender();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        emailNotificationService = new EmailNotificationService(mailSender);
+    }
+
+    @Test
+    void executeBatch_ShouldDeliverAllMessagesOverOneConnection() throws MessagingException {
+        // Arrange
+        List<Notification> notifications = IntStream.range(0, 30)
+                .mapToObj(i -> new Notification(ReminderMethod.EMAIL, "user" + i + "@example.com", "Wydarzenie 1"))
+                .toList();
+
+        // Act
+        Map<Integer, Exception> failures = emailNotificationService.executeBatch(notifications);
+
+        // Assert
+        assertTrue(failures.isEmpty());
+        assertEquals(1, mailSender.connections);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(30, received.length);
+        assertTrue(Arrays.stream(received).anyMatch(message -> hasRecipient(message, "user29@example.com")));
+    }
+
+    @Test
+    void executeBatch_ShouldReportMessagesThatCannotBePrepared() {
+        // Arrange
+        List<Notification> notifications = List.of(
+                new Notification(ReminderMethod.EMAIL, "first@example.com", "Wydarzenie 1"),
+                new Notification(ReminderMethod.EMAIL, "not an address", "Wydarzenie 1"),
+                new Notification(ReminderMethod.EMAIL, "third@example.com", "Wydarzenie 1"));
+
+        // Act
+        Map<Integer, Exception> failures = emailNotificationService.executeBatch(notifications);
+
+        // Assert
+        assertEquals(1, failures.size());
+        assertInstanceOf(MailPreparationException.class, failures.get(1));
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertEquals(1, mailSender.connections);
+    }
+
+    @Test
+    void execute_ShouldSendSingleMessage() {
+        // Act
+        emailNotificationService.execute("Wydarzenie <1>", "user@example.com");
+
+        // Assert
+        assertEquals(1, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void execute_ShouldEscapeMessageBeforeUsingItAsHtml() {
+        // Act
+        emailNotificationService.execute("Spotkanie <b>zarządu</b> & budżet", "user@example.com");
+
+        // Assert
+        String body = GreenMailUtil.getBody(greenMail.getReceivedMessages()[0]);
+        assertTrue(body.contains("&lt;b&gt;"), body);
+        assertTrue(body.contains("&amp;"), body);
+        assertFalse(body.contains("<b>"), body);
+    }
+
+    private static boolean hasRecipient(MimeMessage message, String recipient) {
+        try {
+            return Arrays.stream(message.getAllRecipients()).anyMatch(address -> address.toString().equals(recipient));
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CountingMailSender extends JavaMailSenderImpl {
+
+        private int connections;
+
+        @Override
+        protected Transport connectTransport() throws MessagingException {
+            connections++;
+            return super.connectTransport();
+        }
+    }
+}
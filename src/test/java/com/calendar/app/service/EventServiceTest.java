@@ -1,17 +1,30 @@
 package com.calendar.app.service;
 
 import com.calendar.app.command.AttendeeCommand;
+import com.calendar.app.command.BulkResponseCommand;
 import com.calendar.app.command.EventCommand;
+import com.calendar.app.command.EventResponseCommand;
+import com.calendar.app.command.SlotCheckCommand;
 import com.calendar.app.port.in.NotificationUseCase;
 import com.calendar.domain.Attendee;
+import com.calendar.domain.BusyInterval;
+import com.calendar.domain.ChangeType;
 import com.calendar.domain.Event;
+import com.calendar.domain.EventChanges;
+import com.calendar.domain.EventResponseOutcome;
+import com.calendar.domain.EventVersion;
 import com.calendar.domain.ResponseStatus;
+import com.calendar.domain.SlotConflict;
+import com.calendar.domain.SyncToken;
+import com.calendar.domain.TimeSlot;
 import com.calendar.domain.exception.AccessDeniedException;
 import com.calendar.domain.exception.ConflictException;
 import com.calendar.domain.exception.InvalidEventTimeException;
 import com.calendar.infra.persistence.repository.AttendeeRepository;
 import com.calendar.infra.persistence.repository.CalendarRepository;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository;
 import com.calendar.infra.persistence.repository.EventRepository;
+import com.calendar.infra.provided.search.model.SearchFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -27,9 +40,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +62,9 @@ class EventServiceTest {
     @Mock
     private NotificationUseCase notificationService;
 
+    @Mock
+    private ChangeOutboxRepository changeOutbox;
+
     private Jwt jwt;
 
     @InjectMocks
@@ -86,7 +104,7 @@ class EventServiceTest {
                 .build();
 
         when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(true);
-        when(eventRepository.findConflictingEvents(any(), any(), any())).thenReturn(Collections.emptyList());
+        when(eventRepository.findConflictingTitles(any(), any(), any())).thenReturn(Collections.emptyList());
         when(eventRepository.save(any())).thenReturn(expectedEvent);
 
         // Act
@@ -98,6 +116,7 @@ class EventServiceTest {
         verify(calendarRepository).existsByIdAndOwnerId(CALENDAR_ID, USER_ID);
         verify(eventRepository).save(any(Event.class));
         verify(notificationService).scheduleDefaultReminders(any());
+        verify(changeOutbox).appendForEvents(List.of(EVENT_ID), ChangeType.EVENT_CREATED);
     }
 
     @Test
@@ -120,15 +139,32 @@ class EventServiceTest {
                 CALENDAR_ID, "Test Event", "Description",
                 FUTURE_START, FUTURE_END, "Location", null);
 
-        Event conflictingEvent = Event.builder().title("Conflicting Event").build();
-
         when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(true);
-        when(eventRepository.findConflictingEvents(any(), any(), any())).thenReturn(List.of(conflictingEvent));
+        when(eventRepository.findConflictingTitles(any(), any(), any())).thenReturn(List.of("Conflicting Event"));
 
         // Act & Assert
         assertThrows(ConflictException.class, () -> eventService.createEvent(command, jwt));
     }
 
+    @Test
+    void createEvent_ShouldSkipConflictQueryWhenDatabaseEnforcesNoOverlap() {
+        // Arrange
+        EventCommand command = new EventCommand(
+                CALENDAR_ID, "Test Event", "Description",
+                FUTURE_START, FUTURE_END, "Location", null);
+
+        when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(true);
+        when(eventRepository.enforcesNoOverlap()).thenReturn(true);
+        when(eventRepository.save(any(Event.class))).thenReturn(Event.builder().id(EVENT_ID).build());
+
+        // Act
+        eventService.createEvent(command, jwt);
+
+        // Assert
+        verify(eventRepository, never()).findConflictingTitles(any(), any(), any());
+        verify(eventRepository).save(any(Event.class));
+    }
+
     @Test
     void createEvent_ShouldThrowWhenInvalidTime() {
         // Arrange
@@ -164,10 +200,38 @@ class EventServiceTest {
         eventService.addAttendees(EVENT_ID, attendees, jwt);
 
         // Assert
-        verify(attendeeRepository, times(2)).save(any(Attendee.class));
+        verify(attendeeRepository).insertMissing(argThat(saved -> saved.size() == 2));
         verify(notificationService).notifyAboutNewAttendees(EVENT_ID, attendees);
     }
 
+    @Test
+    void addAttendees_ShouldNotifyOnlyAboutInsertedAttendees() {
+        // Arrange
+        AttendeeCommand existing = new AttendeeCommand("existing@test.com", false);
+        AttendeeCommand added = new AttendeeCommand("new@test.com", true);
+
+        when(attendeeRepository.insertMissing(argThat(saved -> saved.size() == 2)))
+                .thenReturn(List.of(Attendee.builder().eventId(EVENT_ID).email("new@test.com").build()));
+
+        // Act
+        eventService.addAttendees(EVENT_ID, List.of(existing, added), jwt);
+
+        // Assert
+        verify(notificationService).notifyAboutNewAttendees(EVENT_ID, List.of(added));
+    }
+
+    @Test
+    void addAttendees_ShouldNotNotifyWhenAllAttendeesExist() {
+        // Arrange
+        when(attendeeRepository.insertMissing(any())).thenReturn(List.of());
+
+        // Act
+        eventService.addAttendees(EVENT_ID, List.of(new AttendeeCommand("existing@test.com", false)), jwt);
+
+        // Assert
+        verifyNoInteractions(notificationService);
+    }
+
     @Test
     @Disabled
     void removeAttendee_ShouldRemoveAttendeeSuccessfully() {
@@ -189,6 +253,7 @@ class EventServiceTest {
         // Arrange
         Event event = Event.builder().id(EVENT_ID).organizerId(USER_ID).build();
         when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+        when(attendeeRepository.deleteByEventIdAndUserId(EVENT_ID, USER_ID)).thenReturn(true);
 
         // Act
         eventService.removeAttendee(EVENT_ID, USER_ID, jwt);
@@ -196,6 +261,22 @@ class EventServiceTest {
         // Assert
         verify(attendeeRepository).deleteByEventIdAndUserId(EVENT_ID, USER_ID);
         verify(notificationService, never()).notifyAboutRemovedAttendee(any(), any());
+        verify(changeOutbox).appendForEvents(List.of(EVENT_ID), ChangeType.EVENT_UPDATED);
+        verify(changeOutbox, never()).appendForUsers(any(), any(), any(), any());
+    }
+
+    @Test
+    void removeAttendee_ShouldNotPublishChangesWhenUserWasNotAttending() {
+        // Arrange
+        Event event = Event.builder().id(EVENT_ID).organizerId(USER_ID).build();
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event));
+        when(attendeeRepository.deleteByEventIdAndUserId(EVENT_ID, "stranger")).thenReturn(false);
+
+        // Act
+        eventService.removeAttendee(EVENT_ID, "stranger", jwt);
+
+        // Assert
+        verifyNoInteractions(changeOutbox, notificationService);
     }
 
     @Test
@@ -204,6 +285,7 @@ class EventServiceTest {
         Attendee attendee = new Attendee();
         when(attendeeRepository.findByEventIdAndUserId(EVENT_ID, USER_ID))
                 .thenReturn(Optional.of(attendee));
+        when(eventRepository.findOrganizers(List.of(EVENT_ID))).thenReturn(Map.of(EVENT_ID, "organizer"));
 
         // Act
         eventService.respondToEvent(EVENT_ID, ResponseStatus.ACCEPTED, jwt);
@@ -211,6 +293,48 @@ class EventServiceTest {
         // Assert
         assertEquals(ResponseStatus.ACCEPTED, attendee.getResponseStatus());
         verify(attendeeRepository).save(attendee);
+        verify(notificationService).notifyAboutResponse("organizer", EVENT_ID, USER_ID, ResponseStatus.ACCEPTED);
+    }
+
+    @Test
+    void respondToEvents_ShouldUpdateOncePerStatusAndReportOutcomes() {
+        // Arrange
+        BulkResponseCommand command = new BulkResponseCommand(List.of(
+                new EventResponseCommand(1L, ResponseStatus.ACCEPTED),
+                new EventResponseCommand(2L, ResponseStatus.ACCEPTED),
+                new EventResponseCommand(3L, ResponseStatus.DECLINED),
+                new EventResponseCommand(4L, ResponseStatus.PENDING)));
+
+        when(attendeeRepository.updateResponseStatus(USER_ID, ResponseStatus.ACCEPTED, List.of(1L, 2L)))
+                .thenReturn(List.of(1L));
+        when(attendeeRepository.updateResponseStatus(USER_ID, ResponseStatus.DECLINED, List.of(3L)))
+                .thenReturn(List.of(3L));
+        when(eventRepository.findOrganizers(Set.of(1L, 3L))).thenReturn(Map.of(1L, "organizer", 3L, USER_ID));
+
+        // Act
+        List<EventResponseOutcome> result = eventService.respondToEvents(command, jwt);
+
+        // Assert
+        assertEquals(List.of(
+                new EventResponseOutcome(1L, ResponseStatus.ACCEPTED, EventResponseOutcome.Result.UPDATED),
+                new EventResponseOutcome(2L, ResponseStatus.ACCEPTED, EventResponseOutcome.Result.NOT_ATTENDEE),
+                new EventResponseOutcome(3L, ResponseStatus.DECLINED, EventResponseOutcome.Result.UPDATED),
+                new EventResponseOutcome(4L, ResponseStatus.PENDING, EventResponseOutcome.Result.REJECTED)), result);
+        verify(attendeeRepository, never()).updateResponseStatus(any(), eq(ResponseStatus.PENDING), any());
+        verify(notificationService).notifyAboutResponse("organizer", 1L, USER_ID, ResponseStatus.ACCEPTED);
+        verifyNoMoreInteractions(notificationService);
+    }
+
+    @Test
+    void respondToEvents_ShouldThrowForDuplicateEvent() {
+        // Arrange
+        BulkResponseCommand command = new BulkResponseCommand(List.of(
+                new EventResponseCommand(1L, ResponseStatus.ACCEPTED),
+                new EventResponseCommand(1L, ResponseStatus.DECLINED)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventService.respondToEvents(command, jwt));
+        verifyNoInteractions(attendeeRepository);
     }
 
     @Test
@@ -246,6 +370,78 @@ class EventServiceTest {
                 () -> eventService.getEventDetails(EVENT_ID, jwt));
     }
 
+    @Test
+    void getEventVersion_ShouldReturnTagForAttendee() {
+        // Arrange
+        Instant updatedAt = Instant.parse("2030-01-01T10:00:00.000123Z");
+        when(eventRepository.findVersion(EVENT_ID, USER_ID))
+                .thenReturn(Optional.of(new EventVersion("otherUser", 3L, 2L, updatedAt, 1L)));
+
+        // Act
+        String tag = eventService.getEventVersion(EVENT_ID, jwt);
+
+        // Assert
+        assertEquals("3-2-" + ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt), tag);
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    void getEventVersion_ShouldThrowWhenNotVisible() {
+        // Arrange
+        when(eventRepository.findVersion(EVENT_ID, USER_ID))
+                .thenReturn(Optional.of(new EventVersion("otherUser", 0L, 0L, null, 0L)));
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> eventService.getEventVersion(EVENT_ID, jwt));
+    }
+
+    @Test
+    void syncEvents_ShouldReturnChangesSinceDecodedToken() {
+        // Arrange
+        var changes = new EventChanges(List.of(), List.of(7L), new SyncToken(120L).encode());
+        when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(true);
+        when(eventRepository.findChangesSince(CALENDAR_ID, new SyncToken(100L))).thenReturn(changes);
+
+        // Act
+        EventChanges result = eventService.syncEvents(CALENDAR_ID, new SyncToken(100L).encode(), jwt);
+
+        // Assert
+        assertEquals(changes, result);
+        assertEquals(new SyncToken(120L), SyncToken.decode(result.syncToken()));
+    }
+
+    @Test
+    void syncEvents_ShouldRejectMalformedToken() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventService.syncEvents(CALENDAR_ID, "not-a-token", jwt));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void syncEvents_ShouldThrowWhenNotCalendarOwner() {
+        // Arrange
+        when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> eventService.syncEvents(CALENDAR_ID, null, jwt));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getEvents_ShouldReturnOnlyEventsVisibleToRequester() {
+        // Arrange
+        SearchFilter filter = new SearchFilter();
+        Event visibleEvent = Event.builder().id(EVENT_ID).organizerId(USER_ID).build();
+        when(eventRepository.findAllVisibleTo(filter, USER_ID)).thenReturn(List.of(visibleEvent));
+
+        // Act
+        List<Event> result = eventService.getEvents(filter, jwt);
+
+        // Assert
+        assertEquals(List.of(visibleEvent), result);
+        verify(eventRepository).findAllVisibleTo(filter, USER_ID);
+    }
+
     @Test
     void validateCalendarOwnership_ShouldThrowWhenNotOwner() {
         // Arrange
@@ -271,9 +467,8 @@ class EventServiceTest {
     @Test
     void checkForConflicts_ShouldThrowWhenConflictExists() {
         // Arrange
-        Event conflictingEvent = Event.builder().title("Conflicting").build();
         when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(true);
-        when(eventRepository.findConflictingEvents(any(), any(), any())).thenReturn(List.of(conflictingEvent));
+        when(eventRepository.findConflictingTitles(any(), any(), any())).thenReturn(List.of("Conflicting"));
 
         // Act & Assert
         assertThrows(ConflictException.class,
@@ -281,4 +476,60 @@ class EventServiceTest {
                         new EventCommand(CALENDAR_ID, "Test", "Desc", FUTURE_START, FUTURE_END, "Loc", null),
                         jwt));
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkSlots_ShouldReturnConflictsPerSlotInRequestOrder() {
+        // Arrange
+        TimeSlot late = new TimeSlot(FUTURE_START.plus(5, ChronoUnit.HOURS), FUTURE_START.plus(6, ChronoUnit.HOURS));
+        TimeSlot early = new TimeSlot(FUTURE_START, FUTURE_END);
+        TimeSlot buffered = new TimeSlot(FUTURE_START.plus(100, ChronoUnit.MINUTES), FUTURE_START.plus(3, ChronoUnit.HOURS));
+        BusyInterval busy = new BusyInterval(2L, "Busy", FUTURE_START.plus(30, ChronoUnit.MINUTES), FUTURE_END);
+
+        when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(true);
+        when(eventRepository.findBusyIntervals(CALENDAR_ID, FUTURE_START.minus(1, ChronoUnit.HOURS), FUTURE_START.plus(7, ChronoUnit.HOURS)))
+                .thenReturn(List.of(busy));
+
+        // Act
+        List<SlotConflict> result = eventService.checkSlots(
+                new SlotCheckCommand(CALENDAR_ID, List.of(late, early, buffered)), jwt);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertFalse(result.get(0).conflicting());
+        assertEquals(List.of("Busy"), result.get(1).conflictingTitles());
+        assertTrue(result.get(2).conflicting());
+        verify(eventRepository, times(1)).findBusyIntervals(any(), any(), any());
+    }
+
+    @Test
+    void checkSlots_ShouldThrowWhenSlotIsInvalid() {
+        // Arrange
+        when(calendarRepository.existsByIdAndOwnerId(CALENDAR_ID, USER_ID)).thenReturn(true);
+        SlotCheckCommand command = new SlotCheckCommand(CALENDAR_ID, List.of(new TimeSlot(FUTURE_END, FUTURE_START)));
+
+        // Act & Assert
+        assertThrows(InvalidEventTimeException.class, () -> eventService.checkSlots(command, jwt));
+        verify(eventRepository, never()).findBusyIntervals(any(), any(), any());
+    }
+
+    @Test
+    void getAgenda_ShouldQueryAgendaOfRequester() {
+        // Arrange
+        List<Event> agenda = List.of(Event.builder().id(EVENT_ID).build());
+        when(eventRepository.findAgenda(eq(USER_ID), eq(FUTURE_START), eq(FUTURE_END), any(), eq(50))).thenReturn(agenda);
+
+        // Act
+        List<Event> result = eventService.getAgenda(FUTURE_START, FUTURE_END, 50, jwt);
+
+        // Assert
+        assertEquals(agenda, result);
+    }
+
+    @Test
+    void getAgenda_ShouldThrowWhenWindowOrLimitInvalid() {
+        // Act & Assert
+        assertThrows(InvalidEventTimeException.class, () -> eventService.getAgenda(FUTURE_END, FUTURE_START, 50, jwt));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getAgenda(FUTURE_START, FUTURE_END, 0, jwt));
+        verifyNoInteractions(eventRepository);
+    }
+}
@@ -0,0 +1,164 @@
+package com.calendar.app.service;
+
+import com.calendar.app.command.AttendeeCommand;
+import com.calendar.app.command.FreeBusyCommand;
+import com.calendar.app.command.MeetingSuggestionCommand;
+import com.calendar.domain.BusyBlock;
+import com.calendar.domain.FreeBusy;
+import com.calendar.domain.MeetingSuggestion;
+import com.calendar.domain.exception.AccessDeniedException;
+import com.calendar.domain.exception.InvalidEventTimeException;
+import com.calendar.infra.persistence.repository.EventRepository;
+import com.calendar.infra.persistence.repository.EventRepository.BusyTimeConsumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FreeBusyServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private FreeBusyService freeBusyService;
+
+    private static final String ORGANIZER_ID = "organizer@test.com";
+    private static final Instant DAY = Instant.parse("2030-01-07T08:00:00Z");
+
+    @Test
+    void getFreeBusy_ShouldMergeBusyTimesPerUser() {
+        // Arrange
+        stubBusyTimes(
+                new Busy("alice", 0, 60),
+                new Busy("alice", 30, 90),
+                new Busy("alice", 120, 150));
+        when(eventRepository.findUsersSharingEventsWith("alice", Set.of("bob"))).thenReturn(Set.of("bob"));
+
+        // Act
+        List<FreeBusy> result = freeBusyService.getFreeBusy(
+                new FreeBusyCommand(List.of("alice", "bob"), at(0), at(480)), "alice");
+
+        // Assert
+        assertEquals(List.of(
+                new FreeBusy("alice", List.of(new BusyBlock(at(0), at(90)), new BusyBlock(at(120), at(150)))),
+                new FreeBusy("bob", List.of())), result);
+    }
+
+    @Test
+    void getFreeBusy_ShouldNotLookUpSharingForOwnBusyTimes() {
+        // Arrange
+        stubBusyTimes(new Busy("alice", 0, 60));
+
+        // Act
+        List<FreeBusy> result = freeBusyService.getFreeBusy(
+                new FreeBusyCommand(List.of("alice"), at(0), at(480)), "alice");
+
+        // Assert
+        assertEquals(List.of(new FreeBusy("alice", List.of(new BusyBlock(at(0), at(60))))), result);
+        verify(eventRepository, never()).findUsersSharingEventsWith(any(), any());
+    }
+
+    @Test
+    void getFreeBusy_ShouldDenyUsersNotSharingAnEventWithRequester() {
+        // Arrange
+        when(eventRepository.findUsersSharingEventsWith("alice", Set.of("bob", "carol"))).thenReturn(Set.of("bob"));
+        FreeBusyCommand command = new FreeBusyCommand(List.of("alice", "bob", "carol"), at(0), at(480));
+
+        // Act & Assert
+        var exception = assertThrows(AccessDeniedException.class, () -> freeBusyService.getFreeBusy(command, "alice"));
+        assertEquals("User alice cannot see free/busy of carol", exception.getMessage());
+        verify(eventRepository, never()).forEachBusyTime(any(), any(), any(), any());
+    }
+
+    @Test
+    void suggestMeetingTimes_ShouldDenyAttendeesNotSharingAnEventWithOrganizer() {
+        // Arrange
+        when(eventRepository.findUsersSharingEventsWith(eq(ORGANIZER_ID), any())).thenReturn(Set.of());
+        MeetingSuggestionCommand command = new MeetingSuggestionCommand(
+                List.of(new AttendeeCommand("stranger@test.com", true)), at(0), at(240), 30, null);
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> freeBusyService.suggestMeetingTimes(command, ORGANIZER_ID));
+        verify(eventRepository, never()).forEachBusyTime(any(), any(), any(), any());
+    }
+
+    @Test
+    void suggestMeetingTimes_ShouldReturnWindowsFreeForRequiredAttendees() {
+        // Arrange
+        shareEventsWithEveryone();
+        stubBusyTimes(
+                new Busy(ORGANIZER_ID, 0, 60),
+                new Busy("alice@test.com", 60, 120),
+                new Busy("bob@test.com", 120, 180));
+        MeetingSuggestionCommand command = new MeetingSuggestionCommand(
+                List.of(new AttendeeCommand("alice@test.com", false), new AttendeeCommand("bob@test.com", true)),
+                at(0), at(240), 60, 2);
+
+        // Act
+        List<MeetingSuggestion> result = freeBusyService.suggestMeetingTimes(command, ORGANIZER_ID);
+
+        // Assert
+        assertEquals(List.of(
+                new MeetingSuggestion(at(180), at(240), List.of()),
+                new MeetingSuggestion(at(120), at(180), List.of("bob@test.com"))), result);
+    }
+
+    @Test
+    void suggestMeetingTimes_ShouldReturnEmptyWhenNobodyCanMeet() {
+        // Arrange
+        shareEventsWithEveryone();
+        stubBusyTimes(new Busy(ORGANIZER_ID, 0, 240));
+        MeetingSuggestionCommand command = new MeetingSuggestionCommand(
+                List.of(new AttendeeCommand("alice@test.com", false)), at(0), at(240), 30, null);
+
+        // Act & Assert
+        assertTrue(freeBusyService.suggestMeetingTimes(command, ORGANIZER_ID).isEmpty());
+    }
+
+    @Test
+    void suggestMeetingTimes_ShouldThrowWhenDurationDoesNotFit() {
+        // Arrange
+        MeetingSuggestionCommand command = new MeetingSuggestionCommand(
+                List.of(new AttendeeCommand("alice@test.com", false)), at(0), at(30), 60, null);
+
+        // Act & Assert
+        assertThrows(InvalidEventTimeException.class, () -> freeBusyService.suggestMeetingTimes(command, ORGANIZER_ID));
+        verifyNoInteractions(eventRepository);
+    }
+
+    private void shareEventsWithEveryone() {
+        when(eventRepository.findUsersSharingEventsWith(eq(ORGANIZER_ID), any()))
+                .thenAnswer(invocation -> new HashSet<String>(invocation.getArgument(1)));
+    }
+
+    private void stubBusyTimes(Busy... busyTimes) {
+        doAnswer(invocation -> {
+            BusyTimeConsumer consumer = invocation.getArgument(3);
+            for (Busy busy : busyTimes) {
+                consumer.accept(busy.userId(), at(busy.startMinute()).toEpochMilli(), at(busy.endMinute()).toEpochMilli());
+            }
+            return null;
+        }).when(eventRepository).forEachBusyTime(any(), any(), any(), any());
+    }
+
+    private static Instant at(int minute) {
+        return DAY.plus(minute, ChronoUnit.MINUTES);
+    }
+
+    private record Busy(String userId, int startMinute, int endMinute) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.calendar.app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = Duration.ofMillis(100).toNanos();
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void advance_ShouldExpireEntriesOnlyOnceTheirDeadlinePasses() {
+        // Arrange
+        var wheel = new HierarchicalTimingWheel<String>(Duration.ofMillis(100), 4, 2, START);
+        wheel.schedule("a", START + 3 * TICK);
+        wheel.schedule("b", START + 5 * TICK);
+
+        // Act & Assert
+        assertEquals(List.of(), wheel.advance(START + 2 * TICK));
+        assertEquals(List.of("a"), wheel.advance(START + 3 * TICK));
+        assertEquals(List.of(), wheel.advance(START + 4 * TICK));
+        assertEquals(List.of("b"), wheel.advance(START + 5 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_ShouldCascadeEntriesFromHigherLevelsAndOverflow() {
+        // Arrange: 4 slots x 2 levels covers 16 ticks, everything later starts in the overflow list
+        var wheel = new HierarchicalTimingWheel<Integer>(Duration.ofMillis(100), 4, 2, START);
+        List<Integer> deadlines = List.of(1, 4, 7, 15, 16, 17, 33, 64, 100);
+        deadlines.forEach(tick -> wheel.schedule(tick, START + tick * TICK));
+
+        // Act
+        List<Integer> firedAt = new ArrayList<>();
+        for (int tick = 1; tick <= 100; tick++) {
+            for (int ignored : wheel.advance(START + tick * TICK)) {
+                firedAt.add(tick);
+            }
+        }
+
+        // Assert
+        assertEquals(deadlines, firedAt);
+    }
+
+    @Test
+    void advance_ShouldFireOverdueEntriesImmediately() {
+        // Arrange
+        var wheel = new HierarchicalTimingWheel<String>(Duration.ofMillis(100), 4, 2, START);
+        wheel.advance(START + 10 * TICK);
+        wheel.schedule("late", START + 2 * TICK);
+
+        // Act & Assert
+        assertEquals(List.of("late"), wheel.advance(START + 10 * TICK));
+    }
+
+    @Test
+    void advance_ShouldNeverFireEarlyOrLateForRandomDeadlines() {
+        // Arrange
+        var wheel = new HierarchicalTimingWheel<Long>(Duration.ofMillis(100), 8, 3, START);
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            long deadline = START + (long) (random.nextDouble() * 3_000 * TICK);
+            wheel.schedule(deadline, deadline);
+        }
+
+        // Act & Assert
+        for (long now = START; wheel.size() > 0; now += TICK / 2) {
+            for (long deadline : wheel.advance(now)) {
+                assertTrue(deadline <= now, "fired early");
+                assertTrue(now - deadline < TICK, "fired late");
+            }
+        }
+    }
+
+    @Test
+    void clear_ShouldReturnAllPendingEntries() {
+        // Arrange
+        var wheel = new HierarchicalTimingWheel<String>(Duration.ofMillis(100), 4, 2, START);
+        wheel.schedule("soon", START + TICK);
+        wheel.schedule("later", START + 10 * TICK);
+        wheel.schedule("much later", START + 1_000 * TICK);
+
+        // Act
+        List<String> pending = wheel.clear();
+
+        // Assert
+        assertEquals(3, pending.size());
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), wheel.advance(START + 2_000 * TICK));
+    }
+}
@@ -0,0 +1,85 @@
+package com.calendar.app.service;
+
+import com.calendar.app.service.NotificationCoalescer.Digest;
+import com.calendar.domain.Notification;
+import com.calendar.domain.ReminderMethod;
+import com.calendar.infra.persistence.repository.NotificationJobRepository.ClaimedJob;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationCoalescerTest {
+
+    @Test
+    void coalesce_ShouldMergeChangesForSameRecipientAndEvent() {
+        // Arrange
+        ClaimedJob added = job(1L, "anna@example.com", 10L, "Zostałeś dodany jako uczestnik wydarzenia 10.");
+        ClaimedJob other = job(2L, "jan@example.com", 10L, "Zostałeś dodany jako uczestnik wydarzenia 10.");
+        ClaimedJob removed = job(3L, "anna@example.com", 10L, "Zostałeś usunięty z listy uczestników wydarzenia 10.");
+
+        // Act
+        List<Digest> digests = NotificationCoalescer.coalesce(List.of(added, other, removed));
+
+        // Assert
+        assertEquals(2, digests.size());
+        assertEquals(List.of(added, removed), digests.get(0).jobs());
+        assertEquals("""
+                Zmiany w wydarzeniu 10:
+                - Zostałeś dodany jako uczestnik wydarzenia 10.
+                - Zostałeś usunięty z listy uczestników wydarzenia 10.""", digests.get(0).notification().message());
+        assertEquals(other.notification(), digests.get(1).notification());
+    }
+
+    @Test
+    void coalesce_ShouldSendRepeatedMessageOnlyOnce() {
+        // Arrange
+        ClaimedJob first = job(1L, "anna@example.com", 10L, "Zostałeś dodany jako uczestnik wydarzenia 10.");
+        ClaimedJob again = job(2L, "anna@example.com", 10L, "Zostałeś dodany jako uczestnik wydarzenia 10.");
+
+        // Act
+        List<Digest> digests = NotificationCoalescer.coalesce(List.of(first, again));
+
+        // Assert
+        assertEquals(1, digests.size());
+        assertEquals(List.of(first, again), digests.getFirst().jobs());
+        assertEquals(first.notification(), digests.getFirst().notification());
+    }
+
+    @Test
+    void coalesce_ShouldPassThroughNotificationsWithoutEvent() {
+        // Arrange
+        ClaimedJob reminder = job(1L, "anna@example.com", null, "Przypomnienie");
+        ClaimedJob sameReminder = job(2L, "anna@example.com", null, "Przypomnienie");
+
+        // Act
+        List<Digest> digests = NotificationCoalescer.coalesce(List.of(reminder, sameReminder));
+
+        // Assert
+        assertEquals(2, digests.size());
+        assertEquals(List.of(reminder), digests.get(0).jobs());
+        assertEquals(List.of(sameReminder), digests.get(1).jobs());
+    }
+
+    @Test
+    void coalesce_ShouldKeepOrderOfFirstJobAcrossDigestsAndPassThroughJobs() {
+        // Arrange
+        ClaimedJob added = job(1L, "anna@example.com", 10L, "Zostałeś dodany jako uczestnik wydarzenia 10.");
+        ClaimedJob reminder = job(2L, "anna@example.com", null, "Przypomnienie");
+        ClaimedJob removed = job(3L, "anna@example.com", 10L, "Zostałeś usunięty z listy uczestników wydarzenia 10.");
+        ClaimedJob other = job(4L, "jan@example.com", 11L, "Zostałeś dodany jako uczestnik wydarzenia 11.");
+
+        // Act
+        List<Digest> digests = NotificationCoalescer.coalesce(List.of(added, reminder, removed, other));
+
+        // Assert
+        assertEquals(List.of(List.of(added, removed), List.of(reminder), List.of(other)),
+                digests.stream().map(Digest::jobs).toList());
+    }
+
+    private static ClaimedJob job(long id, String recipient, Long eventId, String message) {
+        return new ClaimedJob(id, new Notification(ReminderMethod.EMAIL, recipient, eventId, message), 1, Duration.ZERO);
+    }
+}
@@ -0,0 +1,192 @@
+package com.calendar.app.service;
+
+import com.calendar.app.port.in.INotificationSendExecutor;
+import com.calendar.domain.Notification;
+import com.calendar.domain.ReminderMethod;
+import com.calendar.infra.persistence.repository.NotificationJobRepository;
+import com.calendar.infra.persistence.repository.NotificationJobRepository.ClaimedJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Notification NOTIFICATION =
+            new Notification(ReminderMethod.EMAIL, "user@example.com", "Zostałeś dodany jako uczestnik wydarzenia 1.");
+
+    @Mock
+    private NotificationJobRepository jobs;
+
+    @Mock
+    private INotificationSendExecutor sendExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = dispatcher(true);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void drain_ShouldDeleteJobsWhenBatchIsSent() {
+        // Arrange
+        when(jobs.claim(6, LEASE)).thenReturn(List.of(job(7L, 1), job(8L, 1)));
+        when(sendExecutor.sendBatch(ReminderMethod.EMAIL, List.of(NOTIFICATION, NOTIFICATION))).thenReturn(Map.of());
+
+        // Act
+        dispatcher.drain();
+
+        // Assert
+        verify(jobs, timeout(1000)).delete(List.of(7L, 8L));
+        verify(jobs, never()).retryLater(anyLong(), any(), any());
+        assertEquals(2, meterRegistry.get("notifications.queue.latency").timer().count());
+        assertEquals(300.0, meterRegistry.get("notifications.queue.latency").timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void drain_ShouldSplitClaimedJobsIntoBatchesOfMaxSize() {
+        // Arrange
+        when(jobs.claim(6, LEASE)).thenReturn(List.of(job(1L, 1), job(2L, 1), job(3L, 1), job(4L, 1)));
+        when(sendExecutor.sendBatch(eq(ReminderMethod.EMAIL), anyList())).thenReturn(Map.of());
+
+        // Act
+        dispatcher.drain();
+
+        // Assert
+        verify(jobs, timeout(1000)).delete(List.of(1L, 2L, 3L));
+        verify(jobs, timeout(1000)).delete(List.of(4L));
+        verify(sendExecutor, times(2)).sendBatch(eq(ReminderMethod.EMAIL), anyList());
+        assertEquals(2, meterRegistry.get("notifications.send").tag("outcome", "sent").timer().count());
+        assertEquals(4.0, meterRegistry.get("notifications.messages").tag("outcome", "sent").counter().count());
+        assertEquals(4.0, meterRegistry.get("notifications.send.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void drain_ShouldSendOneDigestForChangesToSameRecipientAndEvent() {
+        // Arrange
+        ClaimedJob added = change(1L, "Zostałeś dodany jako uczestnik wydarzenia 10.");
+        ClaimedJob removed = change(2L, "Zostałeś usunięty z listy uczestników wydarzenia 10.");
+        when(jobs.claim(6, LEASE)).thenReturn(List.of(added, removed));
+        when(sendExecutor.sendBatch(eq(ReminderMethod.EMAIL), anyList())).thenReturn(Map.of());
+
+        // Act
+        dispatcher.drain();
+
+        // Assert
+        verify(jobs, timeout(1000)).delete(List.of(1L, 2L));
+        verify(sendExecutor).sendBatch(ReminderMethod.EMAIL, List.of(new Notification(ReminderMethod.EMAIL,
+                "user@example.com", 10L, """
+                Zmiany w wydarzeniu 10:
+                - Zostałeś dodany jako uczestnik wydarzenia 10.
+                - Zostałeś usunięty z listy uczestników wydarzenia 10.""")));
+        assertEquals(1.0, meterRegistry.get("notifications.coalesced").counter().count());
+    }
+
+    @Test
+    void drain_ShouldRetryOnlyFailedJobsOfBatch() {
+        // Arrange
+        when(jobs.claim(6, LEASE)).thenReturn(List.of(job(7L, 3), job(8L, 1)));
+        when(sendExecutor.sendBatch(eq(ReminderMethod.EMAIL), anyList()))
+                .thenReturn(Map.of(0, new MailSendException("smtp down")));
+
+        // Act
+        dispatcher.drain();
+
+        // Assert
+        verify(jobs, timeout(1000)).delete(List.of(8L));
+        verify(jobs).retryLater(eq(7L), eq(Duration.ofMinutes(2)), contains("smtp down"));
+        verify(jobs, never()).markFailed(anyLong(), any());
+        assertEquals(1, meterRegistry.get("notifications.send").tag("outcome", "partial").timer().count());
+        assertEquals(1.0, meterRegistry.get("notifications.messages").tag("outcome", "retry").counter().count());
+    }
+
+    @Test
+    void drain_ShouldMarkJobFailedWhenAttemptsAreExhausted() {
+        // Arrange
+        when(jobs.claim(6, LEASE)).thenReturn(List.of(job(7L, 4)));
+        when(sendExecutor.sendBatch(eq(ReminderMethod.EMAIL), anyList()))
+                .thenThrow(new IllegalStateException("No notification strategy for EMAIL"));
+
+        // Act
+        dispatcher.drain();
+
+        // Assert
+        verify(jobs, timeout(1000)).markFailed(eq(7L), contains("No notification strategy"));
+        verify(jobs, never()).retryLater(anyLong(), any(), any());
+        verify(jobs, never()).delete(any());
+    }
+
+    @Test
+    void drain_ShouldClaimAgainOnceBusyWorkersFreeUp() {
+        // Arrange
+        when(jobs.claim(anyInt(), eq(LEASE)))
+                .thenReturn(List.of(job(1L, 1), job(2L, 1), job(3L, 1), job(4L, 1), job(5L, 1), job(6L, 1)))
+                .thenReturn(List.of());
+        when(sendExecutor.sendBatch(eq(ReminderMethod.EMAIL), anyList())).thenReturn(Map.of());
+
+        // Act
+        dispatcher.drain();
+
+        // Assert
+        verify(jobs, timeout(1000)).delete(List.of(1L, 2L, 3L));
+        verify(jobs, timeout(1000)).delete(List.of(4L, 5L, 6L));
+        verify(jobs, timeout(1000).atLeast(2)).claim(anyInt(), eq(LEASE));
+    }
+
+    @Test
+    void backoff_ShouldDoubleUpToMaxBackoff() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(2));
+        assertEquals(Duration.ofMinutes(10), dispatcher.backoff(10));
+    }
+
+    @Test
+    void poll_ShouldDoNothingWhenDisabled() {
+        // Arrange
+        var disabled = dispatcher(false);
+
+        // Act
+        disabled.poll();
+        disabled.dispatchAfterCommit();
+
+        // Assert
+        verifyNoInteractions(jobs, sendExecutor);
+    }
+
+    private NotificationDispatcher dispatcher(boolean enabled) {
+        return new NotificationDispatcher(jobs, sendExecutor, meterRegistry, enabled, 2, 3, LEASE,
+                Duration.ofSeconds(30), Duration.ofMinutes(10), 4);
+    }
+
+    private static ClaimedJob change(long id, String message) {
+        return new ClaimedJob(id, new Notification(ReminderMethod.EMAIL, "user@example.com", 10L, message), 1, Duration.ZERO);
+    }
+
+    private static ClaimedJob job(long id, int attempts) {
+        return new ClaimedJob(id, NOTIFICATION, attempts, Duration.ofMillis(150));
+    }
+}
@@ -0,0 +1,201 @@
+package com.calendar.app.service;
+
+import com.calendar.app.command.AttendeeCommand;
+import com.calendar.app.port.in.INotificationSendExecutor;
+import com.calendar.domain.Event;
+import com.calendar.domain.Notification;
+import com.calendar.domain.Reminder;
+import com.calendar.domain.ReminderMethod;
+import com.calendar.domain.ResponseStatus;
+import com.calendar.infra.persistence.repository.NotificationJobRepository;
+import com.calendar.infra.persistence.repository.ReminderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationJobRepository notificationJobs;
+
+    @Mock
+    private NotificationDispatcher dispatcher;
+
+    @Mock
+    private ReminderRepository reminderRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationService, "defaultReminderOffsets", List.of(Duration.ofMinutes(15)));
+        ReflectionTestUtils.setField(notificationService, "coalescingWindow", Duration.ofSeconds(30));
+    }
+
+    @Test
+    void scheduleDefaultReminders_ShouldStoreReminderPerDefaultOffset() {
+        // Arrange
+        Event event = Event.builder().id(1L).title("Standup").build();
+
+        // Act
+        notificationService.scheduleDefaultReminders(event);
+
+        // Assert
+        verify(reminderRepository).scheduleBeforeStart(1L, List.of(Duration.ofMinutes(15)), ReminderMethod.EMAIL);
+    }
+
+    @Test
+    void sendReminders_ShouldQueueNotificationPerRecipientAndDeleteReminders() {
+        // Arrange
+        Instant start = Instant.parse("2099-01-01T10:00:00Z");
+        Reminder reminder = reminder(Event.builder().id(1L).title("Standup")
+                .startTime(start).endTime(start.plus(30, ChronoUnit.MINUTES)).build());
+        when(reminderRepository.delete(List.of(reminder.getId()))).thenReturn(Set.of(reminder.getId()));
+        when(reminderRepository.findRecipients(List.of(1L)))
+                .thenReturn(Map.of(1L, new LinkedHashSet<>(List.of("organizer", "user@example.com"))));
+
+        // Act
+        notificationService.sendReminders(List.of(reminder));
+
+        // Assert
+        String message = "Przypomnienie: wydarzenie \"Standup\" rozpocznie się 2099-01-01 10:00 UTC.";
+        verify(notificationJobs).enqueue(List.of(
+                new Notification(ReminderMethod.EMAIL, "organizer", message),
+                new Notification(ReminderMethod.EMAIL, "user@example.com", message)));
+        verify(dispatcher).dispatchAfterCommit();
+    }
+
+    @Test
+    void sendReminders_ShouldSkipRemindersAlreadyFiredByAnotherNode() {
+        // Arrange
+        Instant start = Instant.parse("2099-01-01T10:00:00Z");
+        Reminder taken = reminder(Event.builder().id(1L).title("Standup")
+                .startTime(start).endTime(start.plus(30, ChronoUnit.MINUTES)).build());
+        Reminder owned = reminder(Event.builder().id(2L).title("Review")
+                .startTime(start).endTime(start.plus(30, ChronoUnit.MINUTES)).build());
+        when(reminderRepository.delete(List.of(taken.getId(), owned.getId()))).thenReturn(Set.of(owned.getId()));
+        when(reminderRepository.findRecipients(List.of(2L))).thenReturn(Map.of(2L, Set.of("organizer")));
+
+        // Act
+        notificationService.sendReminders(List.of(taken, owned));
+
+        // Assert
+        verify(notificationJobs).enqueue(List.of(new Notification(ReminderMethod.EMAIL, "organizer",
+                "Przypomnienie: wydarzenie \"Review\" rozpocznie się 2099-01-01 10:00 UTC.")));
+    }
+
+    @Test
+    void sendReminders_ShouldDoNothingWhenEveryReminderWasAlreadyFired() {
+        // Arrange
+        Reminder taken = reminder(Event.builder().id(1L).title("Standup").build());
+        when(reminderRepository.delete(List.of(taken.getId()))).thenReturn(Set.of());
+
+        // Act
+        notificationService.sendReminders(List.of(taken));
+
+        // Assert
+        verify(reminderRepository, never()).findRecipients(any());
+        verifyNoInteractions(notificationJobs, dispatcher);
+    }
+
+    @Test
+    void sendReminders_ShouldDropRemindersOfEventsThatAlreadyEnded() {
+        // Arrange
+        Instant start = Instant.parse("2020-01-01T10:00:00Z");
+        Reminder reminder = reminder(Event.builder().id(1L).title("Standup")
+                .startTime(start).endTime(start.plus(30, ChronoUnit.MINUTES)).build());
+        when(reminderRepository.delete(List.of(reminder.getId()))).thenReturn(Set.of(reminder.getId()));
+        when(reminderRepository.findRecipients(List.of(1L))).thenReturn(Map.of());
+
+        // Act
+        notificationService.sendReminders(List.of(reminder));
+
+        // Assert
+        verify(notificationJobs, never()).enqueue(any());
+    }
+
+    @Test
+    void notifyAboutNewAttendees_ShouldHoldNotificationsForCoalescingWindow() {
+        // Arrange
+        List<AttendeeCommand> attendees = List.of(new AttendeeCommand("anna@example.com", false));
+
+        // Act
+        notificationService.notifyAboutNewAttendees(10L, attendees);
+
+        // Assert
+        verify(notificationJobs).enqueueCoalesced(List.of(new Notification(ReminderMethod.EMAIL, "anna@example.com", 10L,
+                "Zostałeś dodany jako uczestnik wydarzenia 10.")), Duration.ofSeconds(30));
+        verify(notificationJobs, never()).enqueue(any());
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    void notifyAboutResponse_ShouldEnqueueImmediatelyWhenCoalescingIsOff() {
+        // Arrange
+        ReflectionTestUtils.setField(notificationService, "coalescingWindow", Duration.ZERO);
+
+        // Act
+        notificationService.notifyAboutResponse("organizer", 10L, "anna@example.com", ResponseStatus.ACCEPTED);
+
+        // Assert
+        verify(notificationJobs).enqueue(List.of(new Notification(ReminderMethod.EMAIL, "organizer", 10L,
+                "Użytkownik anna@example.com zmienił status odpowiedzi na ACCEPTED w wydarzeniu 10.")));
+        verify(dispatcher).dispatchAfterCommit();
+    }
+
+    @Test
+    void notifyAboutResponse_ShouldEnqueueJobAndDispatchOnlyOnceTransactionCommits() throws InterruptedException {
+        // Arrange
+        var dispatcher = new NotificationDispatcher(notificationJobs, mock(INotificationSendExecutor.class),
+                new SimpleMeterRegistry(), true, 1, 10, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofHours(1), 8);
+        var service = new NotificationService(notificationJobs, dispatcher, reminderRepository);
+        ReflectionTestUtils.setField(service, "coalescingWindow", Duration.ZERO);
+        when(notificationJobs.claim(anyInt(), any())).thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            service.notifyAboutResponse("organizer", 10L, "anna@example.com", ResponseStatus.DECLINED);
+
+            // Assert
+            verify(notificationJobs).enqueue(List.of(new Notification(ReminderMethod.EMAIL, "organizer", 10L,
+                    "Użytkownik anna@example.com zmienił status odpowiedzi na DECLINED w wydarzeniu 10.")));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+            verify(notificationJobs, never()).claim(anyInt(), any());
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            verify(notificationJobs, timeout(1000)).claim(10, Duration.ofMinutes(5));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            dispatcher.shutdown();
+        }
+    }
+
+    private static Reminder reminder(Event event) {
+        return Reminder.builder().id(UUID.randomUUID()).method(ReminderMethod.EMAIL).event(event).build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.calendar.app.service;
+
+import com.calendar.app.port.in.NotificationUseCase;
+import com.calendar.domain.Event;
+import com.calendar.domain.Reminder;
+import com.calendar.domain.ReminderMethod;
+import com.calendar.infra.persistence.repository.ReminderRepository;
+import com.calendar.infra.persistence.repository.ReminderRepository.ClaimedReminder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSchedulerTest {
+
+    private static final Duration HORIZON = Duration.ofMinutes(5);
+    private static final Duration GRACE = Duration.ofMinutes(2);
+
+    @Mock
+    private ReminderRepository reminders;
+
+    @Mock
+    private NotificationUseCase notificationService;
+
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = scheduler(true);
+    }
+
+    @Test
+    void tick_ShouldFireClaimedRemindersOnceDue() throws InterruptedException {
+        // Arrange
+        Reminder overdue = reminder();
+        Reminder later = reminder();
+        when(reminders.claimDue(HORIZON, GRACE, 2))
+                .thenReturn(List.of(new ClaimedReminder(overdue, Duration.ofSeconds(-5)),
+                        new ClaimedReminder(later, Duration.ofMinutes(4))))
+                .thenReturn(List.of());
+        scheduler.load();
+
+        // Act
+        scheduler.tick();
+
+        // Assert
+        verify(notificationService, timeout(1000)).sendReminders(List.of(overdue));
+        assertEquals(1, scheduler.scheduledCount());
+
+        scheduler.shutdown();
+        verify(reminders).release(List.of(later.getId()));
+    }
+
+    @Test
+    void load_ShouldKeepClaimingWhileBatchesAreFull() {
+        // Arrange
+        when(reminders.claimDue(HORIZON, GRACE, 2))
+                .thenReturn(List.of(claimed(), claimed()))
+                .thenReturn(List.of(claimed()));
+
+        // Act
+        scheduler.load();
+
+        // Assert
+        verify(reminders, times(2)).claimDue(HORIZON, GRACE, 2);
+        assertEquals(3, scheduler.scheduledCount());
+    }
+
+    @Test
+    void load_ShouldDoNothingWhenDisabled() throws InterruptedException {
+        // Arrange
+        var disabled = scheduler(false);
+
+        // Act
+        disabled.load();
+        disabled.tick();
+        disabled.shutdown();
+
+        // Assert
+        verifyNoInteractions(reminders, notificationService);
+    }
+
+    private ReminderScheduler scheduler(boolean enabled) {
+        return new ReminderScheduler(reminders, notificationService, new SimpleMeterRegistry(), enabled,
+                HORIZON, GRACE, 2, 100);
+    }
+
+    private static ClaimedReminder claimed() {
+        return new ClaimedReminder(reminder(), Duration.ofMinutes(1));
+    }
+
+    private static Reminder reminder() {
+        return Reminder.builder()
+                .id(UUID.randomUUID())
+                .method(ReminderMethod.EMAIL)
+                .event(Event.builder().id(1L).title("Standup").build())
+                .build();
+    }
+}
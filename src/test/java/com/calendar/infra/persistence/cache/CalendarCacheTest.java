@@ -0,0 +1,78 @@
+package com.calendar.infra.persistence.cache;
+
+import com.calendar.domain.Calendar;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarCacheTest {
+
+    private static final Long CALENDAR_ID = 1L;
+
+    private MeterRegistry meterRegistry;
+    private CalendarCache calendarCache;
+    private AtomicInteger loads;
+    private Function<Long, Optional<Calendar>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        calendarCache = new CalendarCache(100, Duration.ofMinutes(10), beanFactory.getBeanProvider(MeterRegistry.class));
+
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return Optional.of(Calendar.builder().id(id).name("Work").ownerId("owner").build());
+        };
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndReturnCopies() {
+        // Act
+        Calendar first = calendarCache.get(CALENDAR_ID, loader).orElseThrow();
+        first.updateBasicInfo("Changed", null);
+        Calendar second = calendarCache.get(CALENDAR_ID, loader).orElseThrow();
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals("Work", second.getName());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "calendars").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void invalidate_ShouldReloadOnNextGet() {
+        // Arrange
+        calendarCache.get(CALENDAR_ID, loader);
+
+        // Act
+        calendarCache.invalidate(CALENDAR_ID);
+        calendarCache.get(CALENDAR_ID, loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheMissingCalendar() {
+        // Act
+        assertTrue(calendarCache.get(CALENDAR_ID, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }).isEmpty());
+        calendarCache.get(CALENDAR_ID, loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,149 @@
+package com.calendar.infra.persistence.index;
+
+import com.calendar.domain.BusyInterval;
+import com.calendar.domain.Event;
+import com.calendar.domain.EventStatus;
+import com.calendar.infra.persistence.repository.EventRepository.JpaEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventIntervalIndexTest {
+
+    @Mock
+    private JpaEventRepository jpaRepository;
+
+    private EventIntervalIndex index;
+
+    private static final Long CALENDAR_ID = 1L;
+    private static final Instant BASE = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+
+    @BeforeEach
+    void setUp() {
+        index = new EventIntervalIndex(jpaRepository, true, 10, 3, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findConflictingTitles_ShouldLoadCalendarOnceAndAnswerFromMemory() {
+        // Arrange
+        when(jpaRepository.findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any())).thenReturn(List.of(
+                interval(1L, "Long", 0, 300),
+                interval(2L, "Short", 400, 430)));
+
+        // Act
+        var first = index.findConflictingTitles(CALENDAR_ID, at(200), at(210));
+        var second = index.findConflictingTitles(CALENDAR_ID, at(420), at(500));
+        var none = index.findConflictingTitles(CALENDAR_ID, at(310), at(390));
+
+        // Assert
+        assertEquals(Optional.of(List.of("Long")), first);
+        assertEquals(Optional.of(List.of("Short")), second);
+        assertEquals(Optional.of(List.of()), none);
+        verify(jpaRepository, times(1)).findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any());
+    }
+
+    @Test
+    void onEventSaved_ShouldUpdateLoadedCalendar() {
+        // Arrange
+        when(jpaRepository.findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any()))
+                .thenReturn(List.of(interval(1L, "Existing", 0, 60)));
+        index.findConflictingTitles(CALENDAR_ID, at(0), at(10));
+
+        // Act
+        index.onEventSaved(event(2L, "Added", 100, 160, EventStatus.CONFIRMED));
+        index.onEventSaved(event(1L, "Existing", 0, 60, EventStatus.CANCELLED));
+
+        // Assert
+        assertEquals(Optional.of(List.of("Added")), index.findConflictingTitles(CALENDAR_ID, at(0), at(120)));
+    }
+
+    @Test
+    void findConflictingTitles_ShouldFallBackForOversizedCalendar() {
+        // Arrange
+        when(jpaRepository.findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any())).thenReturn(List.of(
+                interval(1L, "A", 0, 10),
+                interval(2L, "B", 20, 30),
+                interval(3L, "C", 40, 50),
+                interval(4L, "D", 60, 70)));
+
+        // Act & Assert
+        assertTrue(index.findConflictingTitles(CALENDAR_ID, at(0), at(100)).isEmpty());
+        assertTrue(index.findConflictingTitles(CALENDAR_ID, at(0), at(100)).isEmpty());
+        verify(jpaRepository, times(1)).findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any());
+    }
+
+    @Test
+    void findConflictingTitles_ShouldReloadAfterInvalidate() {
+        // Arrange
+        when(jpaRepository.findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any()))
+                .thenReturn(List.of(interval(1L, "Existing", 0, 60)));
+        index.findConflictingTitles(CALENDAR_ID, at(0), at(10));
+
+        // Act
+        index.invalidate(CALENDAR_ID);
+        index.findConflictingTitles(CALENDAR_ID, at(0), at(10));
+
+        // Assert
+        verify(jpaRepository, times(2)).findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any());
+    }
+
+    @Test
+    void findConflictingTitles_ShouldLoadAgainAfterFailedLoad() {
+        // Arrange
+        when(jpaRepository.findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any()))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenReturn(List.of(interval(1L, "Existing", 0, 60)));
+
+        // Act
+        assertThrows(QueryTimeoutException.class, () -> index.findConflictingTitles(CALENDAR_ID, at(0), at(10)));
+        var retried = index.findConflictingTitles(CALENDAR_ID, at(0), at(10));
+
+        // Assert
+        assertEquals(Optional.of(List.of("Existing")), retried);
+        verify(jpaRepository, times(2)).findIntervalsEndingAfter(eq(CALENDAR_ID), any(), any());
+    }
+
+    @Test
+    void findConflictingTitles_ShouldNotQueryWhenDisabled() {
+        // Arrange
+        var disabled = new EventIntervalIndex(jpaRepository, false, 10, 3, Duration.ofMinutes(5));
+
+        // Act & Assert
+        assertTrue(disabled.findConflictingTitles(CALENDAR_ID, at(0), at(10)).isEmpty());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    private static BusyInterval interval(Long id, String title, int startMinute, int endMinute) {
+        return new BusyInterval(id, title, at(startMinute), at(endMinute));
+    }
+
+    private static Event event(Long id, String title, int startMinute, int endMinute, EventStatus status) {
+        return Event.builder()
+                .id(id)
+                .calendarId(CALENDAR_ID)
+                .title(title)
+                .startTime(at(startMinute))
+                .endTime(at(endMinute))
+                .status(status)
+                .build();
+    }
+
+    private static Instant at(int minute) {
+        return BASE.plus(minute, ChronoUnit.MINUTES);
+    }
+}
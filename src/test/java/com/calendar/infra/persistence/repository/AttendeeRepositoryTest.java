@@ -0,0 +1,95 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.domain.EventStatus;
+import com.calendar.domain.ResponseStatus;
+import com.calendar.infra.config.RepositoryConfiguration;
+import com.calendar.infra.config.SearchConfiguration;
+import com.calendar.infra.persistence.cache.CalendarCache;
+import com.calendar.infra.persistence.entity.AttendeeEntity;
+import com.calendar.infra.persistence.entity.CalendarEntity;
+import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.persistence.index.EventIntervalIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:attendeerepository;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SearchConfiguration.class, RepositoryConfiguration.class, AttendeeRepository.class, EventRepository.class,
+        CalendarRepository.class, EventIntervalIndex.class, CalendarCache.class})
+class AttendeeRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+
+    @Test
+    void allocateIds_ShouldReadSequenceOncePerBlockOfFifty() {
+        // Arrange
+        long before = sequenceValue();
+
+        // Act
+        List<Long> ids = attendeeRepository.allocateIds(60);
+
+        // Assert
+        assertEquals(60, new HashSet<>(ids).size());
+        assertTrue(sequenceValue() - before <= 100, "two blocks of 50 cover 60 ids");
+    }
+
+    @Test
+    void allocateIds_ShouldNotCollideWithIdsHibernateAssigns() {
+        // Arrange
+        CalendarEntity calendar = CalendarEntity.builder().name("Work").ownerId("organizer").build();
+        entityManager.persist(calendar);
+        Instant start = Instant.parse("2030-01-01T08:00:00Z");
+        EventEntity event = EventEntity.builder()
+                .title("Standup")
+                .startTime(start)
+                .endTime(start.plusSeconds(1800))
+                .organizerId("organizer")
+                .status(EventStatus.CONFIRMED)
+                .calendar(calendar)
+                .build();
+        entityManager.persist(event);
+
+        // Act
+        Set<Long> ids = new HashSet<>(attendeeRepository.allocateIds(3));
+        for (int i = 0; i < 3; i++) {
+            AttendeeEntity attendee = AttendeeEntity.builder()
+                    .event(event)
+                    .userId("user" + i)
+                    .email("user" + i + "@example.com")
+                    .responseStatus(ResponseStatus.PENDING)
+                    .build();
+            entityManager.persist(attendee);
+            ids.add(attendee.getId());
+        }
+        ids.addAll(attendeeRepository.allocateIds(3));
+
+        // Assert
+        assertEquals(9, ids.size());
+    }
+
+    private long sequenceValue() {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'ATTENDEES_SEQ'", Long.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.infra.persistence.repository.EventRepository.JpaEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRepositoryOverlapTest {
+
+    private static final String CONSTRAINT = "ex_events_calendar_no_overlap";
+
+    @Mock
+    private JpaEventRepository jpaRepository;
+
+    @InjectMocks
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventRepository, "exclusionConstraintEnabled", true);
+        ReflectionTestUtils.setField(eventRepository, "constraintRecheckInterval", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void enforcesNoOverlap_ShouldNotLookUpConstraintWhenDisabled() {
+        // Arrange
+        ReflectionTestUtils.setField(eventRepository, "exclusionConstraintEnabled", false);
+
+        // Act & Assert
+        assertFalse(eventRepository.enforcesNoOverlap());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    void enforcesNoOverlap_ShouldReuseLookupWithinRecheckInterval() {
+        // Arrange
+        when(jpaRepository.countConstraintsOnEvents(CONSTRAINT)).thenReturn(1L);
+
+        // Act & Assert
+        assertTrue(eventRepository.enforcesNoOverlap());
+        assertTrue(eventRepository.enforcesNoOverlap());
+        verify(jpaRepository, times(1)).countConstraintsOnEvents(anyString());
+    }
+
+    @Test
+    void enforcesNoOverlap_ShouldFollowConstraintBeingAddedAndDropped() {
+        // Arrange
+        ReflectionTestUtils.setField(eventRepository, "constraintRecheckInterval", Duration.ZERO);
+        when(jpaRepository.countConstraintsOnEvents(CONSTRAINT)).thenReturn(0L, 1L, 0L);
+
+        // Act & Assert
+        assertFalse(eventRepository.enforcesNoOverlap());
+        assertTrue(eventRepository.enforcesNoOverlap());
+        assertFalse(eventRepository.enforcesNoOverlap());
+    }
+}
@@ -0,0 +1,69 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.domain.EventChanges;
+import com.calendar.domain.SyncToken;
+import com.calendar.domain.exception.SyncTokenExpiredException;
+import com.calendar.infra.persistence.repository.EventRepository.JpaEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRepositorySyncTest {
+
+    private static final Long CALENDAR_ID = 1L;
+
+    @Mock
+    private JpaEventRepository jpaRepository;
+
+    @InjectMocks
+    private EventRepository eventRepository;
+
+    @Test
+    void findChangesSince_ShouldRejectTokenOlderThanPurgedChanges() {
+        // Arrange
+        when(jpaRepository.currentSnapshotXmin()).thenReturn(900L);
+        when(jpaRepository.changeLogPurgedBefore()).thenReturn(500L);
+
+        // Act & Assert
+        assertThrows(SyncTokenExpiredException.class,
+                () -> eventRepository.findChangesSince(CALENDAR_ID, new SyncToken(499L)));
+        verify(jpaRepository, never()).findChangedSince(anyLong(), anyLong());
+    }
+
+    @Test
+    void findChangesSince_ShouldReturnChangesForTokenAtHorizon() {
+        // Arrange
+        when(jpaRepository.currentSnapshotXmin()).thenReturn(900L);
+        when(jpaRepository.changeLogPurgedBefore()).thenReturn(500L);
+        when(jpaRepository.findChangedSince(CALENDAR_ID, 500L)).thenReturn(List.of());
+        when(jpaRepository.findDeletedSince(CALENDAR_ID, 500L)).thenReturn(List.of(7L));
+
+        // Act
+        EventChanges changes = eventRepository.findChangesSince(CALENDAR_ID, new SyncToken(500L));
+
+        // Assert
+        assertEquals(List.of(7L), changes.deletedEventIds());
+        assertEquals(new SyncToken(900L).encode(), changes.syncToken());
+    }
+
+    @Test
+    void findChangesSince_ShouldNotCheckHorizonForFullSync() {
+        // Arrange
+        when(jpaRepository.currentSnapshotXmin()).thenReturn(900L);
+        when(jpaRepository.findByCalendarId(CALENDAR_ID)).thenReturn(List.of());
+
+        // Act
+        eventRepository.findChangesSince(CALENDAR_ID, null);
+
+        // Assert
+        verify(jpaRepository, never()).changeLogPurgedBefore();
+    }
+}
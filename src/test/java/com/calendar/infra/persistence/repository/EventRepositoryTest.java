@@ -0,0 +1,328 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.domain.Event;
+import com.calendar.domain.EventStatus;
+import com.calendar.domain.ResponseStatus;
+import com.calendar.infra.config.RepositoryConfiguration;
+import com.calendar.infra.config.SearchConfiguration;
+import com.calendar.infra.persistence.cache.CalendarCache;
+import com.calendar.infra.persistence.entity.AttendeeEntity;
+import com.calendar.infra.persistence.entity.CalendarEntity;
+import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.persistence.index.EventIntervalIndex;
+import com.calendar.infra.provided.search.model.CursorPage;
+import com.calendar.infra.provided.search.model.FilterRequest;
+import com.calendar.infra.provided.search.model.PageRequest;
+import com.calendar.infra.provided.search.model.SearchFilter;
+import com.calendar.infra.provided.search.model.SortRequest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:eventrepository;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SearchConfiguration.class, RepositoryConfiguration.class, EventRepository.class, CalendarRepository.class,
+        EventIntervalIndex.class, CalendarCache.class})
+class EventRepositoryTest {
+
+    private static final String USER_ID = "user123";
+    private static final Instant BASE = Instant.parse("2030-01-01T08:00:00Z");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private CalendarEntity calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = CalendarEntity.builder().name("Work").ownerId(USER_ID).build();
+        entityManager.persist(calendar);
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldWalkAllPagesInStartTimeAndIdOrder() {
+        // Arrange: "b" and "c" start together, so their order is decided by id
+        persist("a", 0);
+        persist("b", 1);
+        persist("c", 1);
+        persist("d", 2);
+        persist("e", 3);
+        flushAndClear();
+
+        // Act
+        List<List<String>> pages = walk(keysetFilter(2, "asc"));
+
+        // Assert
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), pages);
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldWalkBackwardsWhenSortedDescending() {
+        // Arrange
+        persist("a", 0);
+        persist("b", 1);
+        persist("c", 1);
+        persist("d", 2);
+        flushAndClear();
+
+        // Act
+        List<List<String>> pages = walk(keysetFilter(3, "desc"));
+
+        // Assert
+        assertEquals(List.of(List.of("d", "c", "b"), List.of("a")), pages);
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldNotReturnCursorWhenLastPageIsExactlyFull() {
+        // Arrange
+        persist("a", 0);
+        persist("b", 1);
+        flushAndClear();
+
+        // Act
+        CursorPage<Event> page = eventRepository.findPageVisibleTo(keysetFilter(2, "asc"), USER_ID);
+
+        // Assert
+        assertEquals(2, page.items().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldSkipEventsNotVisibleToUser() {
+        // Arrange
+        persist("mine", 0);
+        entityManager.persist(event("foreign", 1, "someoneElse"));
+        flushAndClear();
+
+        // Act
+        CursorPage<Event> page = eventRepository.findPageVisibleTo(keysetFilter(10, "asc"), USER_ID);
+
+        // Assert
+        assertEquals(List.of("mine"), titles(page.items()));
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldRejectEmptyPageSize() {
+        // Arrange
+        persist("a", 0);
+        flushAndClear();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> eventRepository.findPageVisibleTo(keysetFilter(0, "asc"), USER_ID));
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldRejectSortFieldOtherThanStartTime() {
+        // Arrange
+        SearchFilter filter = keysetFilter(2, "asc");
+        filter.setSortRequest(new SortRequest("title", "asc"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventRepository.findPageVisibleTo(filter, USER_ID));
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldTreatPeriodOverlapAsHalfOpen() {
+        // Arrange: "standup" covers [08:00, 08:30)
+        persist("standup", 0);
+        flushAndClear();
+
+        // Act & Assert
+        assertEquals(List.of(), overlapping("2030-01-01T08:30:00Z,2030-01-01T09:00:00Z"));
+        assertEquals(List.of(), overlapping("2030-01-01T07:30:00Z,2030-01-01T08:00:00Z"));
+        assertEquals(List.of("standup"), overlapping("2030-01-01T08:29:00Z,2030-01-01T09:00:00Z"));
+        assertEquals(List.of("standup"), overlapping("2030-01-01T07:30:00Z,2030-01-01T08:01:00Z"));
+        assertEquals(List.of("standup"), overlapping("2030-01-01T08:10:00Z,2030-01-01T08:20:00Z"));
+    }
+
+    @Test
+    void findPageVisibleTo_ShouldMatchSearchQueryLiterallyInFallback() {
+        // Arrange
+        persist("Budget 100% review", 0);
+        persist("Budget 1000 review", 1);
+        persist("snake_case naming", 2);
+        persist("snakeXcase naming", 3);
+        flushAndClear();
+
+        // Act & Assert
+        assertEquals(List.of("Budget 100% review"), searching("100%"));
+        assertEquals(List.of("snake_case naming"), searching("SNAKE_CASE"));
+        assertEquals(List.of(), searching("it's"));
+        assertThrows(IllegalArgumentException.class, () -> searching("   "));
+    }
+
+    @Test
+    void findUsersSharingEventsWith_ShouldReturnOnlyUsersWithACommonEvent() {
+        // Arrange: user123 organizes "standup" with anna, and attends piotr's "review" together with ewa;
+        // marek's meeting with zofia lives in marek's own calendar
+        EventEntity standup = event("standup", 0, USER_ID);
+        entityManager.persist(standup);
+        entityManager.persist(attendee(standup, "anna"));
+        EventEntity review = event("review", 1, "piotr");
+        entityManager.persist(review);
+        entityManager.persist(attendee(review, USER_ID));
+        entityManager.persist(attendee(review, "ewa"));
+        CalendarEntity foreignCalendar = CalendarEntity.builder().name("Private").ownerId("marek").build();
+        entityManager.persist(foreignCalendar);
+        EventEntity unrelated = event("unrelated", 2, "marek");
+        unrelated.setCalendar(foreignCalendar);
+        entityManager.persist(unrelated);
+        entityManager.persist(attendee(unrelated, "zofia"));
+        flushAndClear();
+
+        // Act
+        Set<String> visible = eventRepository.findUsersSharingEventsWith(
+                USER_ID, List.of("anna", "piotr", "ewa", "marek", "zofia"));
+
+        // Assert
+        assertEquals(Set.of("anna", "piotr", "ewa"), visible);
+    }
+
+    @Test
+    void findOrganizers_ShouldMapExistingEventsToTheirOrganizers() {
+        // Arrange
+        EventEntity standup = event("standup", 0, USER_ID);
+        entityManager.persist(standup);
+        EventEntity review = event("review", 1, "piotr");
+        entityManager.persist(review);
+        flushAndClear();
+
+        // Act
+        Map<Long, String> organizers = eventRepository.findOrganizers(List.of(standup.getId(), review.getId(), -1L));
+
+        // Assert
+        assertEquals(Map.of(standup.getId(), USER_ID, review.getId(), "piotr"), organizers);
+    }
+
+    @Test
+    void prepareExport_ShouldEmitEveryRowInOrderWithoutKeepingChunksManaged() {
+        // Arrange: more than two export chunks of 500 rows
+        for (int i = 0; i < 1100; i++) {
+            persist("event-" + i, i);
+        }
+        flushAndClear();
+        PersistenceContext persistenceContext = entityManager.unwrap(SessionImplementor.class).getPersistenceContext();
+        List<String> titles = new ArrayList<>();
+        AtomicInteger maxManaged = new AtomicInteger();
+
+        // Act
+        eventRepository.prepareExport(keysetFilter(10, "asc"), USER_ID).writeTo(event -> {
+            titles.add(event.getTitle());
+            maxManaged.accumulateAndGet(persistenceContext.getNumberOfManagedEntities(), Math::max);
+        });
+
+        // Assert
+        assertEquals(1100, titles.size());
+        assertEquals("event-0", titles.get(0));
+        assertEquals("event-1099", titles.get(1099));
+        assertTrue(maxManaged.get() <= 501, "at most one chunk and its calendar may stay managed");
+        assertTrue(persistenceContext.getNumberOfManagedEntities() <= 1, "only the calendar may stay managed");
+    }
+
+    @Test
+    void prepareExport_ShouldNotCallConsumerWhenNothingMatches() {
+        // Arrange
+        entityManager.persist(event("foreign", 0, "someoneElse"));
+        flushAndClear();
+        List<Event> emitted = new ArrayList<>();
+
+        // Act
+        eventRepository.prepareExport(keysetFilter(10, "asc"), USER_ID).writeTo(emitted::add);
+
+        // Assert
+        assertTrue(emitted.isEmpty());
+    }
+
+    @Test
+    void prepareExport_ShouldRejectUnknownFieldBeforeStreaming() {
+        // Arrange
+        SearchFilter filter = keysetFilter(10, "asc");
+        filter.setFilters(List.of(new FilterRequest("secret", "eq", "x")));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventRepository.prepareExport(filter, USER_ID));
+    }
+
+    private List<List<String>> walk(SearchFilter filter) {
+        List<List<String>> pages = new ArrayList<>();
+        while (true) {
+            CursorPage<Event> page = eventRepository.findPageVisibleTo(filter, USER_ID);
+            pages.add(titles(page.items()));
+            if (!page.hasNext()) {
+                return pages;
+            }
+            filter.setCursor(page.nextCursor());
+        }
+    }
+
+    private List<String> overlapping(String window) {
+        SearchFilter filter = keysetFilter(10, "asc");
+        filter.setFilters(List.of(new FilterRequest("period", "overlaps", window)));
+        return titles(eventRepository.findPageVisibleTo(filter, USER_ID).items());
+    }
+
+    private List<String> searching(String query) {
+        SearchFilter filter = keysetFilter(10, "asc");
+        filter.setFilters(List.of(new FilterRequest("text", "search", query)));
+        return titles(eventRepository.findPageVisibleTo(filter, USER_ID).items());
+    }
+
+    private static SearchFilter keysetFilter(int pageSize, String direction) {
+        return new SearchFilter(List.of(), new PageRequest(0, pageSize), new SortRequest("startTime", direction), "");
+    }
+
+    private void persist(String title, int hoursAfterBase) {
+        entityManager.persist(event(title, hoursAfterBase, USER_ID));
+    }
+
+    private EventEntity event(String title, int hoursAfterBase, String organizerId) {
+        Instant start = BASE.plusSeconds(3600L * hoursAfterBase);
+        return EventEntity.builder()
+                .title(title)
+                .startTime(start)
+                .endTime(start.plusSeconds(1800))
+                .organizerId(organizerId)
+                .status(EventStatus.CONFIRMED)
+                .calendar(calendar)
+                .build();
+    }
+
+    private static AttendeeEntity attendee(EventEntity event, String userId) {
+        return AttendeeEntity.builder()
+                .event(event)
+                .userId(userId)
+                .email(userId + "@example.com")
+                .responseStatus(ResponseStatus.PENDING)
+                .build();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static List<String> titles(List<Event> events) {
+        return events.stream().map(Event::getTitle).toList();
+    }
+}
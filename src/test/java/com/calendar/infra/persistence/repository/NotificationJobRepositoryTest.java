@@ -0,0 +1,94 @@
+package com.calendar.infra.persistence.repository;
+
+import com.calendar.domain.Notification;
+import com.calendar.domain.ReminderMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest(properties = "spring.datasource.url=jdbc:h2:mem:notificationjobrepository;MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(NotificationJobRepository.class)
+class NotificationJobRepositoryTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationJobRepository notificationJobRepository;
+
+    @BeforeEach
+    void setUp() {
+        // the schema is managed by Liquibase, which does not run against H2
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS notification_jobs (
+                    id BIGSERIAL PRIMARY KEY,
+                    method VARCHAR(50) NOT NULL,
+                    recipient VARCHAR(255) NOT NULL,
+                    event_id BIGINT,
+                    message TEXT NOT NULL,
+                    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                    attempts INT NOT NULL DEFAULT 0,
+                    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT LOCALTIMESTAMP,
+                    locked_until TIMESTAMP WITHOUT TIME ZONE,
+                    last_error TEXT,
+                    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT LOCALTIMESTAMP
+                )""");
+    }
+
+    @Test
+    void enqueueCoalesced_ShouldJoinOpenWindowOfSameRecipientAndEvent() {
+        // Arrange
+        notificationJobRepository.enqueueCoalesced(List.of(change("Zostałeś dodany jako uczestnik wydarzenia 10.")), WINDOW);
+
+        // Act
+        notificationJobRepository.enqueueCoalesced(
+                List.of(change("Zostałeś usunięty z listy uczestników wydarzenia 10.")), WINDOW);
+
+        // Assert
+        List<Timestamp> due = dueTimes();
+        assertEquals(2, due.size());
+        assertEquals(due.get(0), due.get(1));
+    }
+
+    @Test
+    void enqueueCoalesced_ShouldNotJoinJobWaitingForRetry() {
+        // Arrange: an earlier digest failed and waits ten minutes for its next attempt
+        jdbcTemplate.update("""
+                INSERT INTO notification_jobs (method, recipient, event_id, message, attempts, next_attempt_at)
+                VALUES ('EMAIL', 'anna@example.com', 10, 'Zostałeś dodany jako uczestnik wydarzenia 10.', 1,
+                    LOCALTIMESTAMP + INTERVAL '10' MINUTE)
+                """);
+
+        // Act
+        notificationJobRepository.enqueueCoalesced(
+                List.of(change("Zostałeś usunięty z listy uczestników wydarzenia 10.")), WINDOW);
+
+        // Assert
+        List<Timestamp> due = dueTimes();
+        Duration gap = Duration.between(due.get(1).toInstant(), due.get(0).toInstant());
+        assertTrue(gap.compareTo(Duration.ofMinutes(9)) > 0, "new change opens its own window instead of waiting for the retry");
+    }
+
+    private List<Timestamp> dueTimes() {
+        return jdbcTemplate.queryForList("SELECT next_attempt_at FROM notification_jobs ORDER BY id", Timestamp.class);
+    }
+
+    private static Notification change(String message) {
+        return new Notification(ReminderMethod.EMAIL, "anna@example.com", 10L, message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.calendar.infra.provided.search.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FullTextFunctionsTest {
+
+    // the expression indexed by idx_events_fts for (title, description)
+    private static final String INDEXED_DOCUMENT =
+            "to_tsvector('simple', coalesce(?1, '') || ' ' || coalesce(?2, ''))";
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private FunctionContributions contributions;
+
+    @Mock
+    private SqmFunctionRegistry registry;
+
+    @Test
+    void contributeFunctions_ShouldMatchIndexedTsvectorOnPostgres() {
+        // Arrange
+        when(contributions.getDialect()).thenReturn(new PostgreSQLDialect());
+
+        // Act
+        Map<String, String> patterns = contribute();
+
+        // Assert
+        assertEquals("(" + INDEXED_DOCUMENT + " @@ websearch_to_tsquery('simple', ?3))", patterns.get(FullTextFunctions.MATCH));
+        assertEquals("ts_rank(" + INDEXED_DOCUMENT + ", websearch_to_tsquery('simple', ?3))", patterns.get(FullTextFunctions.RANK));
+    }
+
+    @Test
+    void contributeFunctions_ShouldFallBackToLiteralSubstringMatchElsewhere() {
+        // Arrange
+        when(contributions.getDialect()).thenReturn(new H2Dialect());
+
+        // Act
+        String match = contribute().get(FullTextFunctions.MATCH);
+
+        // Assert
+        assertEquals("(locate(lower(?3), lower(coalesce(?1, ''))) > 0 or locate(lower(?3), lower(coalesce(?2, ''))) > 0)", match);
+        assertFalse(match.contains("like"));
+    }
+
+    private Map<String, String> contribute() {
+        when(contributions.getFunctionRegistry()).thenReturn(registry);
+        new FullTextFunctions().contributeFunctions(contributions);
+
+        ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> patterns = ArgumentCaptor.forClass(String.class);
+        verify(registry, times(2)).registerPattern(names.capture(), patterns.capture(), any());
+        Map<String, String> registered = new HashMap<>();
+        for (int i = 0; i < names.getAllValues().size(); i++) {
+            registered.put(names.getAllValues().get(i), patterns.getAllValues().get(i));
+        }
+        return registered;
+    }
+}
@@ -0,0 +1,66 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.persistence.entity.EventEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchFieldRegistryTest {
+
+    private final SearchFieldRegistry<EventEntity> registry = TestSearchFields.registry();
+
+    @Test
+    void get_ShouldResolveWhitelistedFieldWithConverterForItsType() {
+        // Act
+        var field = registry.get("startTime");
+
+        // Assert
+        assertEquals(SearchField.Kind.VALUE, field.kind());
+        assertEquals(Instant.parse("2030-01-01T10:00:00Z"), field.convert("2030-01-01T10:00:00Z"));
+    }
+
+    @Test
+    void get_ShouldRejectFieldOutsideWhitelist() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> registry.get("organizerId"));
+    }
+
+    @Test
+    void withRange_ShouldSpanStartAndEndAttributes() {
+        // Act
+        var period = registry.get("period");
+
+        // Assert
+        assertEquals(SearchField.Kind.RANGE, period.kind());
+        assertEquals(List.of(List.of("startTime"), List.of("endTime")), period.paths());
+    }
+
+    @Test
+    void withRange_ShouldRejectBoundsOfDifferentTypes() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> registry.withRange("mixed", "title", "startTime"));
+    }
+
+    @Test
+    void withText_ShouldRejectNonStringAttribute() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> registry.withText("broken", "title", "startTime"));
+    }
+
+    @Test
+    void withText_ShouldRejectMoreAttributesThanTextFunctionsAccept() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> registry.withText("wide", "title", "description", "organizerId"));
+    }
+
+    @Test
+    void of_ShouldFailFastOnUnknownAttribute() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> SearchFieldRegistry.of(TestSearchFields.metamodel(), EventEntity.class, "titel"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.domain.EventStatus;
+import com.calendar.infra.persistence.entity.EventEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchFieldTest {
+
+    private final SearchFieldRegistry<EventEntity> registry = TestSearchFields.registry();
+
+    @Test
+    void convert_ShouldConvertEnumByName() {
+        // Act & Assert
+        assertEquals(EventStatus.CONFIRMED, registry.get("status").convert("CONFIRMED"));
+    }
+
+    @Test
+    void convert_ShouldReturnNullForMissingValue() {
+        // Act & Assert
+        assertNull(registry.get("id").convert(null));
+    }
+
+    @Test
+    void convert_ShouldRejectValueThatDoesNotParse() {
+        // Act & Assert
+        var exception = assertThrows(IllegalArgumentException.class, () -> registry.get("id").convert("abc"));
+        assertEquals("Invalid value for field id: abc", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> registry.get("status").convert("MAYBE"));
+    }
+}
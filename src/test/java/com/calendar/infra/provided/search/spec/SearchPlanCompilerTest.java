@@ -0,0 +1,91 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.provided.search.model.FilterRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchPlanCompilerTest {
+
+    private final SearchPlanCompiler<EventEntity> compiler = new SearchPlanCompiler<>(TestSearchFields.registry());
+
+    @Test
+    void compile_ShouldReusePlanForFiltersOfSameShape() {
+        // Act
+        var first = compiler.compile(List.of(new FilterRequest("title", "eq", "Standup")));
+        var second = compiler.compile(List.of(new FilterRequest("title", "eq", "Retro")));
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void compile_ShouldCompileSeparatePlansForDifferentOperators() {
+        // Act
+        var equal = compiler.compile(List.of(new FilterRequest("title", "eq", "Standup")));
+        var like = compiler.compile(List.of(new FilterRequest("title", "like", "Stand")));
+
+        // Assert
+        assertNotSame(equal, like);
+    }
+
+    @Test
+    void compile_ShouldStopCachingOnceCacheHolds256Plans() {
+        // Arrange
+        var first = compiler.compile(titleFilters(1));
+        for (int count = 2; count <= 256; count++) {
+            compiler.compile(titleFilters(count));
+        }
+
+        // Act
+        var uncached = compiler.compile(titleFilters(257));
+        var uncachedAgain = compiler.compile(titleFilters(257));
+
+        // Assert
+        assertNotSame(uncached, uncachedAgain);
+        assertSame(first, compiler.compile(titleFilters(1)));
+    }
+
+    @Test
+    void compile_ShouldReturnEmptyPlanWhenThereAreNoFilters() {
+        // Act & Assert
+        assertTrue(compiler.compile(null).isEmpty());
+        assertTrue(compiler.compile(List.of()).isEmpty());
+    }
+
+    @Test
+    void compile_ShouldRejectFieldOutsideWhitelist() {
+        // Arrange
+        var filters = List.of(new FilterRequest("description", "eq", "secret"));
+
+        // Act & Assert
+        var exception = assertThrows(IllegalArgumentException.class, () -> compiler.compile(filters));
+        assertEquals("Field is not searchable: description", exception.getMessage());
+    }
+
+    @Test
+    void compile_ShouldRejectOperatorThatDoesNotFitField() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(List.of(new FilterRequest("startTime", "like", "2030"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(List.of(new FilterRequest("period", "eq", "2030-01-01T00:00:00Z"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(List.of(new FilterRequest("title", "search", "standup"))));
+    }
+
+    @Test
+    void compile_ShouldRejectUnknownOperator() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(List.of(new FilterRequest("title", "regex", ".*"))));
+    }
+
+    private static List<FilterRequest> titleFilters(int count) {
+        return Collections.nCopies(count, new FilterRequest("title", "eq", "Standup"));
+    }
+}
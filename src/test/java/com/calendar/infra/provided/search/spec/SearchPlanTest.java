@@ -0,0 +1,133 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.domain.EventStatus;
+import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.provided.search.model.FilterRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchPlanTest {
+
+    private final SearchPlanCompiler<EventEntity> compiler = new SearchPlanCompiler<>(TestSearchFields.registry());
+
+    @Test
+    void bind_ShouldConvertValuesInFilterOrder() {
+        // Arrange
+        var filters = List.of(
+                new FilterRequest("status", "in", "CONFIRMED, CANCELLED"),
+                new FilterRequest("startTime", "gt", "2030-01-01T10:00:00Z"),
+                new FilterRequest("title", "eq", null));
+
+        // Act
+        var values = compiler.compile(filters).bind(filters);
+
+        // Assert
+        assertEquals(Arrays.asList(
+                List.of(EventStatus.CONFIRMED, EventStatus.CANCELLED),
+                Instant.parse("2030-01-01T10:00:00Z"),
+                null), values);
+    }
+
+    @Test
+    void bind_ShouldRejectMissingValueForOperatorOtherThanEq() {
+        // Arrange
+        var filters = List.of(new FilterRequest("title", "like", null));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(filters).bind(filters));
+    }
+
+    @Test
+    void bind_ShouldRejectMoreThan100ListValues() {
+        // Arrange
+        var ids = IntStream.rangeClosed(1, 101).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        var filters = List.of(new FilterRequest("id", "in", ids));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(filters).bind(filters));
+    }
+
+    @Test
+    void bind_ShouldAcceptBetweenWithEqualBounds() {
+        // Arrange
+        var filters = List.of(new FilterRequest("startTime", "between", "2030-01-01T10:00:00Z,2030-01-01T10:00:00Z"));
+
+        // Act
+        var values = compiler.compile(filters).bind(filters);
+
+        // Assert
+        var instant = Instant.parse("2030-01-01T10:00:00Z");
+        assertEquals(List.of(List.of(instant, instant)), values);
+    }
+
+    @Test
+    void bind_ShouldRejectInvertedBounds() {
+        // Arrange
+        var between = List.of(new FilterRequest("startTime", "between", "2030-01-02T00:00:00Z,2030-01-01T00:00:00Z"));
+        var overlaps = List.of(new FilterRequest("period", "overlaps", "2030-01-02T00:00:00Z,2030-01-01T00:00:00Z"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(between).bind(between));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(overlaps).bind(overlaps));
+    }
+
+    @Test
+    void bind_ShouldRejectWrongNumberOfBounds() {
+        // Arrange
+        var single = List.of(new FilterRequest("startTime", "between", "2030-01-01T00:00:00Z"));
+        var triple = List.of(new FilterRequest("id", "between", "1,2,3"));
+        var overlapsSingle = List.of(new FilterRequest("period", "overlaps", "2030-01-01T00:00:00Z"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(single).bind(single));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(triple).bind(triple));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(overlapsSingle).bind(overlapsSingle));
+    }
+
+    @Test
+    void bind_ShouldRejectEmptyInList() {
+        // Arrange
+        var empty = List.of(new FilterRequest("title", "in", ""));
+        var blank = List.of(new FilterRequest("id", "in", "  "));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(empty).bind(empty));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(blank).bind(blank));
+    }
+
+    @Test
+    void bind_ShouldAcceptSingleInValue() {
+        // Arrange
+        var filters = List.of(new FilterRequest("id", "in", "7"));
+
+        // Act & Assert
+        assertEquals(List.of(List.of(7L)), compiler.compile(filters).bind(filters));
+    }
+
+    @Test
+    void bind_ShouldRejectBlankSearchQuery() {
+        // Arrange
+        var empty = List.of(new FilterRequest("text", "search", ""));
+        var blank = List.of(new FilterRequest("text", "search", " \t "));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(empty).bind(empty));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(blank).bind(blank));
+    }
+
+    @Test
+    void bind_ShouldStripSearchQuery() {
+        // Arrange
+        var filters = List.of(new FilterRequest("text", "search", "  planning  "));
+
+        // Act & Assert
+        assertEquals(List.of("planning"), compiler.compile(filters).bind(filters));
+    }
+}
@@ -0,0 +1,78 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.infra.persistence.entity.EventEntity;
+import com.calendar.infra.provided.search.model.PageRequest;
+import com.calendar.infra.provided.search.model.SearchFilter;
+import com.calendar.infra.provided.search.model.SortRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchSpecificationBuilderTest {
+
+    private final SearchPlanCompiler<EventEntity> compiler = new SearchPlanCompiler<>(TestSearchFields.registry());
+
+    @Test
+    void buildPageRequest_ShouldSortByWhitelistedField() {
+        // Arrange
+        var filter = new SearchFilter(List.of(), new PageRequest(2, 20), new SortRequest("startTime", "desc"), null);
+
+        // Act
+        var pageRequest = new SearchSpecificationBuilder<>(compiler, filter).buildPageRequest();
+
+        // Assert
+        assertEquals(2, pageRequest.getPageNumber());
+        assertEquals(20, pageRequest.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "startTime"), pageRequest.getSort());
+    }
+
+    @Test
+    void buildPageRequest_ShouldRejectCompositeSortFields() {
+        // Arrange
+        var byPeriod = new SearchFilter(List.of(), null, new SortRequest("period", "asc"), null);
+        var byText = new SearchFilter(List.of(), null, new SortRequest("text", "asc"), null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new SearchSpecificationBuilder<>(compiler, byPeriod).buildPageRequest());
+        assertThrows(IllegalArgumentException.class,
+                () -> new SearchSpecificationBuilder<>(compiler, byText).buildPageRequest());
+    }
+
+    @Test
+    void buildPageRequest_ShouldRejectSortFieldOutsideWhitelist() {
+        // Arrange
+        var filter = new SearchFilter(List.of(), null, new SortRequest("description", "asc"), null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new SearchSpecificationBuilder<>(compiler, filter).buildPageRequest());
+    }
+
+    @Test
+    void buildPageSize_ShouldRejectSizesOutsideAllowedRange() {
+        // Arrange
+        var empty = new SearchFilter(List.of(), new PageRequest(0, 0), null, null);
+        var negative = new SearchFilter(List.of(), new PageRequest(0, -1), null, null);
+        var huge = new SearchFilter(List.of(), new PageRequest(0, 501), null, null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SearchSpecificationBuilder<>(compiler, empty).buildPageSize());
+        assertThrows(IllegalArgumentException.class, () -> new SearchSpecificationBuilder<>(compiler, negative).buildPageSize());
+        assertThrows(IllegalArgumentException.class, () -> new SearchSpecificationBuilder<>(compiler, huge).buildPageRequest());
+    }
+
+    @Test
+    void buildPageSize_ShouldAcceptLimitsOfAllowedRange() {
+        // Arrange
+        var smallest = new SearchFilter(List.of(), new PageRequest(0, 1), null, null);
+        var largest = new SearchFilter(List.of(), new PageRequest(0, 500), null, null);
+
+        // Act & Assert
+        assertEquals(1, new SearchSpecificationBuilder<>(compiler, smallest).buildPageSize());
+        assertEquals(500, new SearchSpecificationBuilder<>(compiler, largest).buildPageSize());
+    }
+}
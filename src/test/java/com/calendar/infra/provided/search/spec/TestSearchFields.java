@@ -0,0 +1,54 @@
+package com.calendar.infra.provided.search.spec;
+
+import com.calendar.domain.EventStatus;
+import com.calendar.infra.persistence.entity.EventEntity;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import org.mockito.quality.Strictness;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Builds a {@link SearchFieldRegistry} over a stubbed metamodel with the same whitelist shape as the
+ * application's event search, so the search classes can be tested without a persistence unit.
+ */
+final class TestSearchFields {
+
+    private static final Map<String, Class<?>> ATTRIBUTES = Map.of(
+            "id", Long.class,
+            "organizerId", String.class,
+            "status", EventStatus.class,
+            "startTime", Instant.class,
+            "endTime", Instant.class,
+            "title", String.class,
+            "description", String.class);
+
+    private TestSearchFields() {
+    }
+
+    static Metamodel metamodel() {
+        var lenient = withSettings().strictness(Strictness.LENIENT);
+        ManagedType<?> managedType = mock(ManagedType.class, lenient);
+        doThrow(new IllegalArgumentException("No attribute")).when(managedType).getAttribute(anyString());
+        ATTRIBUTES.forEach((name, javaType) -> {
+            Attribute<?, ?> attribute = mock(Attribute.class, lenient);
+            doReturn(javaType).when(attribute).getJavaType();
+            doReturn(attribute).when(managedType).getAttribute(name);
+        });
+
+        Metamodel metamodel = mock(Metamodel.class, lenient);
+        doReturn(managedType).when(metamodel).managedType(EventEntity.class);
+        return metamodel;
+    }
+
+    static SearchFieldRegistry<EventEntity> registry() {
+        return SearchFieldRegistry.of(metamodel(), EventEntity.class, "id", "status", "startTime", "endTime", "title")
+                .withRange("period", "startTime", "endTime")
+                .withText("text", "title", "description");
+    }
+}
@@ -0,0 +1,102 @@
+package com.calendar.infra.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Instant NOW = Instant.parse("2030-01-01T10:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Test
+    void decode_ShouldVerifyTokenOnlyOnce() {
+        // Arrange
+        var decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        Jwt jwt = jwt(NOW.plusSeconds(300));
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        // Act
+        Jwt first = decoder.decode(TOKEN);
+        Jwt second = decoder.decode(TOKEN);
+
+        // Assert
+        assertSame(jwt, first);
+        assertSame(jwt, second);
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    @Test
+    void decode_ShouldVerifyAgainOnceTokenExpired() {
+        // Arrange
+        var clock = new MutableClock(NOW);
+        var decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(15), clock);
+        when(delegate.decode(TOKEN)).thenReturn(jwt(NOW.plusSeconds(300)));
+
+        // Act
+        decoder.decode(TOKEN);
+        clock.now = NOW.plusSeconds(301);
+        decoder.decode(TOKEN);
+
+        // Assert
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void decode_ShouldNotCacheRejectedTokens() {
+        // Arrange
+        var decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("invalid"));
+
+        // Act & Assert
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+        assertThrows(BadJwtException.class, () -> decoder.decode(TOKEN));
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return new Jwt(TOKEN, NOW, expiresAt, Map.of("alg", "RS256"), Map.of("sub", "user123"));
+    }
+}
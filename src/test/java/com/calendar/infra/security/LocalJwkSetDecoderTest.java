@@ -0,0 +1,66 @@
+package com.calendar.infra.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalJwkSetDecoderTest {
+
+    private static final String ISSUER = "https://idp.example.com/realms/calendar";
+
+    private RSAKey signingKey;
+    private JwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        signingKey = new RSAKeyGenerator(2048).keyID("test-key").algorithm(JWSAlgorithm.RS256).generate();
+        String jwks = new JWKSet(signingKey.toPublicJWK()).toString();
+        decoder = LocalJwkSetDecoder.create(new ByteArrayResource(jwks.getBytes(StandardCharsets.UTF_8)), ISSUER);
+    }
+
+    @Test
+    void decode_ShouldAcceptTokenSignedByKnownKey() throws Exception {
+        // Act
+        var jwt = decoder.decode(sign(ISSUER));
+
+        // Assert
+        assertEquals("user123", jwt.getSubject());
+    }
+
+    @Test
+    void decode_ShouldRejectTokenFromOtherIssuer() throws Exception {
+        // Arrange
+        String token = sign("https://other.example.com");
+
+        // Act & Assert
+        assertThrows(JwtValidationException.class, () -> decoder.decode(token));
+    }
+
+    private String sign(String issuer) throws Exception {
+        var claims = new JWTClaimsSet.Builder()
+                .subject("user123")
+                .issuer(issuer)
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+}
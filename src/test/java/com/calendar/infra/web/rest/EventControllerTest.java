@@ -0,0 +1,135 @@
+package com.calendar.infra.web.rest;
+
+import com.calendar.app.port.in.EventUseCase;
+import com.calendar.domain.Event;
+import com.calendar.domain.EventExport;
+import com.calendar.infra.provided.search.model.PageRequest;
+import com.calendar.infra.provided.search.model.SearchFilter;
+import com.calendar.infra.provided.search.model.SortRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventControllerTest {
+
+    private static final SearchFilter FILTER =
+            new SearchFilter(List.of(), new PageRequest(0, 10), new SortRequest("startTime", "asc"), "");
+
+    @Mock
+    private EventUseCase eventService;
+
+    @Mock
+    private AsyncWebRequest asyncWebRequest;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final Jwt jwt = mock(Jwt.class);
+    private final EventExport export = mock(EventExport.class);
+
+    private EventController controller;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        controller = new EventController(eventService, objectMapper);
+        ReflectionTestUtils.setField(controller, "exportTimeout", Duration.ofMinutes(5));
+        request = new MockHttpServletRequest();
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+    }
+
+    @Test
+    void exportEvents_ShouldWriteOneJsonDocumentPerLine() throws Exception {
+        // Arrange
+        when(eventService.prepareExport(FILTER, jwt)).thenReturn(export);
+        doAnswer(invocation -> {
+            Consumer<Event> consumer = invocation.getArgument(1);
+            consumer.accept(Event.builder().id(1L).title("Standup").build());
+            consumer.accept(Event.builder().id(2L).title("Retro").build());
+            return null;
+        }).when(eventService).exportEvents(eq(export), any());
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportEvents(FILTER, jwt, request);
+        String body = write(response.getBody());
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = body.split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals(1L, objectMapper.readValue(lines[0], Event.class).getId());
+        assertEquals("Retro", objectMapper.readValue(lines[1], Event.class).getTitle());
+        assertEquals("", lines[2]);
+        verify(asyncWebRequest).setTimeout(Duration.ofMinutes(5).toMillis());
+    }
+
+    @Test
+    void exportEvents_ShouldWriteNothingWhenNoEventMatches() throws Exception {
+        // Arrange
+        when(eventService.prepareExport(FILTER, jwt)).thenReturn(export);
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportEvents(FILTER, jwt, request);
+
+        // Assert
+        assertEquals("", write(response.getBody()));
+    }
+
+    @Test
+    void exportEvents_ShouldRejectInvalidFilterBeforeResponseIsCommitted() {
+        // Arrange
+        when(eventService.prepareExport(FILTER, jwt)).thenThrow(new IllegalArgumentException("Unknown field: secret"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> controller.exportEvents(FILTER, jwt, request));
+        verify(eventService, never()).exportEvents(any(), any());
+        verify(asyncWebRequest, never()).setTimeout(anyLong());
+    }
+
+    @Test
+    void exportEvents_ShouldStopStreamingOnceTimeoutHasPassed() {
+        // Arrange
+        ReflectionTestUtils.setField(controller, "exportTimeout", Duration.ZERO);
+        when(eventService.prepareExport(FILTER, jwt)).thenReturn(export);
+        doAnswer(invocation -> {
+            Consumer<Event> consumer = invocation.getArgument(1);
+            consumer.accept(Event.builder().id(1L).title("Standup").build());
+            return null;
+        }).when(eventService).exportEvents(eq(export), any());
+        ResponseEntity<StreamingResponseBody> response = controller.exportEvents(FILTER, jwt, request);
+
+        // Act & Assert
+        assertThrows(AsyncRequestTimeoutException.class, () -> write(response.getBody()));
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        var out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
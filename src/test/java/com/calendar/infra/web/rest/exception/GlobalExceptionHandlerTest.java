@@ -0,0 +1,26 @@
+package com.calendar.infra.web.rest.exception;
+
+import com.calendar.infra.persistence.entity.CalendarEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void handleOptimisticLockingFailure_ShouldRespondWithConflict() {
+        // Arrange
+        var ex = new ObjectOptimisticLockingFailureException(CalendarEntity.class, 1L);
+
+        // Act
+        ProblemDetail problem = handler.handleOptimisticLockingFailure(ex);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT.value(), problem.getStatus());
+    }
+}
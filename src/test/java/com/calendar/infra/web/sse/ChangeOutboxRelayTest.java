@@ -0,0 +1,85 @@
+package com.calendar.infra.web.sse;
+
+import com.calendar.domain.CalendarChange;
+import com.calendar.domain.ChangeType;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository;
+import com.calendar.infra.persistence.repository.ChangeOutboxRepository.OutboxBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeOutboxRelayTest {
+
+    @Mock
+    private ChangeOutboxRepository outbox;
+
+    @Mock
+    private ChangeStreamHub hub;
+
+    private ChangeOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new ChangeOutboxRelay(outbox, hub, true, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void relay_ShouldOnlyTrackPositionWithoutSubscribers() {
+        // Arrange
+        when(outbox.currentPosition()).thenReturn(100L);
+
+        // Act
+        relay.relay();
+        relay.relay();
+
+        // Assert
+        verify(outbox, times(2)).currentPosition();
+        verify(outbox, never()).readSince(anyLong());
+        verify(hub, never()).publish(any());
+    }
+
+    @Test
+    void relay_ShouldNotRepublishRowsReadAgainFromRunningTransactions() {
+        // Arrange
+        when(outbox.currentPosition()).thenReturn(100L);
+        when(hub.hasSubscribers()).thenReturn(true);
+        relay.relay();
+
+        when(outbox.readSince(100L)).thenReturn(new OutboxBatch(List.of(change(1L), change(2L)), Set.of(2L), 105L));
+        when(outbox.readSince(105L)).thenReturn(new OutboxBatch(List.of(change(2L), change(3L)), Set.of(), 110L));
+
+        // Act
+        relay.relay();
+        relay.relay();
+
+        // Assert
+        verify(hub).publish(List.of(change(1L), change(2L)));
+        verify(hub).publish(List.of(change(3L)));
+    }
+
+    @Test
+    void relay_ShouldDoNothingWhenDisabled() {
+        // Arrange
+        var disabled = new ChangeOutboxRelay(outbox, hub, false, Duration.ofMinutes(10));
+
+        // Act
+        disabled.relay();
+        disabled.purge();
+
+        // Assert
+        verifyNoInteractions(outbox, hub);
+    }
+
+    private static CalendarChange change(Long id) {
+        return new CalendarChange(id, "user123", 1L, 10L, ChangeType.EVENT_UPDATED);
+    }
+}
@@ -0,0 +1,86 @@
+package com.calendar.infra.web.sse;
+
+import com.calendar.domain.CalendarChange;
+import com.calendar.domain.ChangeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeSubscriberTest {
+
+    private final RecordingEmitter emitter = new RecordingEmitter();
+
+    @Test
+    void sendNext_ShouldSendBufferedChangesInOrder() throws Exception {
+        // Arrange
+        var subscriber = new ChangeSubscriber(emitter, 4, Duration.ofMillis(10));
+        subscriber.offer(change(1L));
+        subscriber.offer(change(2L));
+
+        // Act
+        subscriber.sendNext();
+        subscriber.sendNext();
+
+        // Assert
+        assertEquals(List.of("id:1", "id:2"), emitter.ids());
+    }
+
+    @Test
+    void sendNext_ShouldAskForResyncAfterOverflow() throws Exception {
+        // Arrange
+        var subscriber = new ChangeSubscriber(emitter, 2, Duration.ofMillis(10));
+        subscriber.offer(change(1L));
+        subscriber.offer(change(2L));
+        subscriber.offer(change(3L));
+
+        // Act
+        subscriber.sendNext();
+        subscriber.offer(change(4L));
+        subscriber.sendNext();
+
+        // Assert
+        assertEquals(List.of("event:" + ChangeSubscriber.RESYNC_EVENT, "id:4"), emitter.ids());
+    }
+
+    @Test
+    void sendNext_ShouldSendKeepaliveWhenIdle() throws Exception {
+        // Arrange
+        var subscriber = new ChangeSubscriber(emitter, 2, Duration.ofMillis(10));
+
+        // Act
+        subscriber.sendNext();
+
+        // Assert
+        assertEquals(List.of(":keepalive"), emitter.ids());
+    }
+
+    private static CalendarChange change(Long id) {
+        return new CalendarChange(id, "user123", 1L, 10L, ChangeType.EVENT_UPDATED);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String text = builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .reduce("", String::concat);
+            sent.add(text.lines()
+                    .filter(line -> line.startsWith("id:") || line.startsWith("event:") || line.startsWith(":"))
+                    .findFirst()
+                    .orElse(text));
+        }
+
+        List<String> ids() {
+            return sent;
+        }
+    }
+}